@@ -7,14 +7,16 @@ async function getPlaces(): Promise<Place[]> {
   try {
     // 서버 사이드 렌더링 시에는 Docker 내부 네트워크 주소인 서비스 이름을 사용합니다.
     const apiUrl = 'http://backend:8080'; //마지막 베포시 변경  'http://backend:8080'     | 내부 개발시 'http://localhost:8080'
-    const res = await fetch(`${apiUrl}/api/v1/places`, { cache: 'no-store' });
+    // 서버 렌더링 요청에는 로그인 정보가 없으므로 공유 카탈로그의 장소 목록만 사용합니다.
+    const res = await fetch(`${apiUrl}/api/v1/places/catalog`, { cache: 'no-store' });
 
 
     if (!res.ok) {
       console.error('Failed to fetch places');
       return [];
     }
-    return res.json();
+    const catalog = await res.json();
+    return catalog.places;
   } catch (error) {
     console.error('Error fetching places:', error);
     return [];
@@ -247,7 +247,10 @@ export default function MapContainer({ places }: MapContainerProps) {
 
     const handleDataChange = async () => {
         try {
-            const updatedPlaces = await apiClient('/api/v1/places');
+            // 공유 카탈로그에 내 즐겨찾기 id 목록을 덧씌웁니다.
+            const catalog = await apiClient('/api/v1/places/catalog');
+            const favoriteIds = new Set<number>(catalog.favoritePlaceIds);
+            const updatedPlaces: Place[] = catalog.places.map((p: Place) => ({ ...p, isFavorited: favoriteIds.has(p.id) }));
             setDisplayedPlaces(updatedPlaces);
 
             if (selectedPlace) {
@@ -4,9 +4,11 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @EnableCaching // 캐싱 기능 활성화
 @EnableJpaAuditing // JPA Auditing 활성화
+@EnableScheduling // 조회수 일괄 반영 등 주기 작업 활성화
 @SpringBootApplication
 public class SmokingMapApplication {
     public static void main(String[] args) {
@@ -0,0 +1,74 @@
+package com.smoking_map.smoking_map.config.auth;
+
+import com.smoking_map.smoking_map.config.auth.dto.SessionUser;
+import com.smoking_map.smoking_map.config.session.VisitorIdFilter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import java.util.Optional;
+
+/**
+ * 현재 요청의 로그인 사용자 (요청 범위).
+ * <p>
+ * 세션의 SessionUser를 요청당 한 번만 읽어 두고, 서비스들은 이메일로 사용자를 다시 조회하는 대신 여기서 id를 얻습니다.
+ * LoginUserArgumentResolver가 컨트롤러 인자를 만들 때 채우며, 그 전에 서비스가 먼저 읽어도 같은 방식으로 채워집니다.
+ * 세션에 id가 없으면 UserIdCache로 찾아 세션에 다시 저장하고, 찾을 수 없는 사용자는 비로그인으로 봅니다.
+ * 세션이 없는 요청(비로그인 방문자)에는 세션을 새로 만들지 않으며, 방문자 구분은 {@link #getVisitorId()}로 합니다.
+ */
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class CurrentUser {
+
+    private final HttpServletRequest request;
+    private final UserIdCache userIdCache;
+
+    private boolean resolved;
+    private SessionUser sessionUser;
+
+    // 로그인 사용자 (비로그인 시 null). 반환값의 id는 항상 채워져 있습니다.
+    public SessionUser get() {
+        if (!resolved) {
+            sessionUser = resolve();
+            resolved = true;
+        }
+        return sessionUser;
+    }
+
+    public Optional<Long> getId() {
+        SessionUser user = get();
+        return user != null ? Optional.of(user.getId()) : Optional.empty();
+    }
+
+    // 로그인 여부와 관계없이 방문자마다 유지되는 id (서명된 쿠키, 서버 세션 없음)
+    // 필터를 거치지 않은 요청이면 이미 있는 세션의 id를 쓰고, 세션도 없으면 null (세션을 새로 만들지 않음)
+    public String getVisitorId() {
+        String visitorId = VisitorIdFilter.getVisitorId(request);
+        if (visitorId != null) {
+            return visitorId;
+        }
+        HttpSession httpSession = request.getSession(false);
+        return httpSession != null ? httpSession.getId() : null;
+    }
+
+    private SessionUser resolve() {
+        HttpSession httpSession = request.getSession(false);
+        if (httpSession == null) {
+            return null;
+        }
+        SessionUser user = (SessionUser) httpSession.getAttribute("user");
+        if (user == null || user.getId() != null) {
+            return user;
+        }
+        return userIdCache.findIdByEmail(user.getEmail())
+                .map(id -> {
+                    SessionUser withId = user.withId(id);
+                    httpSession.setAttribute("user", withId);
+                    return withId;
+                })
+                .orElse(null);
+    }
+}
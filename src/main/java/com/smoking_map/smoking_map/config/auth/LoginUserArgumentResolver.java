@@ -2,7 +2,6 @@
 package com.smoking_map.smoking_map.config.auth;
 
 import com.smoking_map.smoking_map.config.auth.dto.SessionUser;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
@@ -15,7 +14,8 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 @Component
 public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver {
 
-    private final HttpSession httpSession;
+    // --- ▼▼▼ [수정] 세션을 직접 읽지 않고 요청 범위의 CurrentUser로 (요청당 한 번 해석, 서비스와 공유) ▼▼▼ ---
+    private final CurrentUser currentUser;
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
@@ -27,6 +27,6 @@ public class LoginUserArgumentResolver implements HandlerMethodArgumentResolver
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
-        return httpSession.getAttribute("user");
+        return currentUser.get();
     }
 }
\ No newline at end of file
@@ -35,6 +35,8 @@ public class SecurityConfig {
                         // --- ▼▼▼ [수정] GET /api/v1/places/** 로 search도 포함되므로 별도 추가 불필요 ▼▼▼ ---
                         .requestMatchers(HttpMethod.GET, "/api/v1/places/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/places/{id}/view").permitAll()
+                        // --- ▼▼▼ [추가] 장소 벡터 타일 ▼▼▼ ---
+                        .requestMatchers(HttpMethod.GET, "/api/v1/tiles/**").permitAll()
                         // --- ▼▼▼ [추가] 리뷰 API 권한 설정 ▼▼▼ ---
                         .requestMatchers(HttpMethod.POST, "/api/v1/places/{placeId}/reviews").hasAnyRole(Role.USER.name(), Role.ADMIN.name(), Role.MANAGER.name())
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/reviews/{reviewId}").hasAnyRole(Role.USER.name(), Role.ADMIN.name(), Role.MANAGER.name())
@@ -0,0 +1,43 @@
+package com.smoking_map.smoking_map.config.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smoking_map.smoking_map.domain.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 이메일 → 사용자 id 캐시 (로컬, 짧은 TTL).
+ * <p>
+ * 세션에 id가 없는 경우(id 추가 이전에 만들어진 세션)에만 쓰입니다. 사용자 id는 바뀌지 않으므로 있는 값만 캐시하고,
+ * 없는 이메일은 캐시하지 않아 방금 가입한 사용자도 바로 찾습니다.
+ */
+@Component
+public class UserIdCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Long> cache;
+
+    public UserIdCache(UserRepository userRepository,
+                       @Value("${cache.user-id.maximum-size:10000}") long maximumSize,
+                       @Value("${cache.user-id.ttl:1m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public Optional<Long> findIdByEmail(String email) {
+        Long cached = cache.getIfPresent(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<Long> userId = userRepository.findIdByEmail(email);
+        userId.ifPresent(id -> cache.put(email, id));
+        return userId;
+    }
+}
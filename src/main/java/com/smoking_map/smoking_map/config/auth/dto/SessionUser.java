@@ -7,15 +7,28 @@ import java.io.Serializable;
 
 @Getter
 public class SessionUser implements Serializable {
+    // --- ▼▼▼ [추가] 사용자 id: 요청마다 이메일로 사용자를 다시 조회하지 않도록 세션에 함께 저장 ▼▼▼ ---
+    // id 추가 이전에 만들어진 세션은 null이며, CurrentUser가 처음 읽을 때 채워 세션에 다시 저장합니다.
+    private final Long id;
     private final String name;
     private final String email;
     private final String picture;
     private final String role; // [확인] 이 role 필드가 있어야 합니다.
 
     public SessionUser(User user) {
-        this.name = user.getName();
-        this.email = user.getEmail();
-        this.picture = user.getPicture();
-        this.role = user.getRole().name(); // User 엔티티의 Role을 문자열로 변환하여 저장
+        this(user.getId(), user.getName(), user.getEmail(), user.getPicture(), user.getRole().name()); // User 엔티티의 Role을 문자열로 변환하여 저장
     }
-}
\ No newline at end of file
+
+    // 세션 저장소에서 읽을 때 사용 (CompactSessionSerializer)
+    public SessionUser(Long id, String name, String email, String picture, String role) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+        this.picture = picture;
+        this.role = role;
+    }
+
+    public SessionUser withId(Long id) {
+        return new SessionUser(id, name, email, picture, role);
+    }
+}
@@ -0,0 +1,131 @@
+package com.smoking_map.smoking_map.config.session;
+
+import com.smoking_map.smoking_map.config.auth.dto.SessionUser;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Redis 세션 속성 직렬화기.
+ * <p>
+ * 세션마다 저장되는 값(생성/접근 시각, 만료 간격, 로그인 사용자)은 첫 바이트에 형식 표시를 둔 고정 바이너리로 씁니다.
+ * JDK 직렬화는 클래스 설명까지 실어 SessionUser 하나에 수백 바이트가 들지만, 여기서는 필드 값만 씁니다.
+ * 그 밖의 값(Spring Security 인증 정보 등)은 JDK 직렬화 그대로 두며, JDK 직렬화 스트림은 항상 0xAC로 시작하므로
+ * 형식 표시와 겹치지 않습니다.
+ * 로그인 세션에서는 JDK 직렬화로 남는 SPRING_SECURITY_CONTEXT(OAuth2 인증 토큰과 사용자 속성)가 대부분을 차지하므로,
+ * 이 형식으로 줄어드는 것은 세션 메타데이터와 SessionUser 부분뿐이고 세션 전체 크기는 크게 달라지지 않습니다.
+ */
+public class CompactSessionSerializer implements RedisSerializer<Object> {
+
+    static final byte LONG = 'L';
+    static final byte INTEGER = 'I';
+    static final byte STRING = 'S';
+    static final byte SESSION_USER = 'U';
+    // SessionUser 필드가 바뀌면 올리고, 이전 버전은 읽을 때 변환합니다.
+    static final byte SESSION_USER_VERSION = 1;
+
+    private static final byte JDK_STREAM_MAGIC = (byte) 0xAC;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final JdkSerializationRedisSerializer fallback = new JdkSerializationRedisSerializer();
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return EMPTY;
+        }
+        if (value instanceof Long longValue) {
+            return ByteBuffer.allocate(9).put(LONG).putLong(longValue).array();
+        }
+        if (value instanceof Integer intValue) {
+            return ByteBuffer.allocate(5).put(INTEGER).putInt(intValue).array();
+        }
+        if (value instanceof String string) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            return ByteBuffer.allocate(1 + bytes.length).put(STRING).put(bytes).array();
+        }
+        if (value instanceof SessionUser user) {
+            return writeSessionUser(user);
+        }
+        return fallback.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        switch (bytes[0]) {
+            case LONG:
+                return ByteBuffer.wrap(bytes, 1, 8).getLong();
+            case INTEGER:
+                return ByteBuffer.wrap(bytes, 1, 4).getInt();
+            case STRING:
+                return new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+            case SESSION_USER:
+                return readSessionUser(bytes);
+            case JDK_STREAM_MAGIC:
+                return fallback.deserialize(bytes);
+            default:
+                throw new SerializationException("알 수 없는 세션 값 형식입니다: " + bytes[0]);
+        }
+    }
+
+    private static byte[] writeSessionUser(SessionUser user) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeByte(SESSION_USER);
+            out.writeByte(SESSION_USER_VERSION);
+            out.writeLong(user.getId() != null ? user.getId() : -1L);
+            writeNullable(out, user.getName());
+            writeNullable(out, user.getEmail());
+            writeNullable(out, user.getPicture());
+            writeNullable(out, user.getRole());
+        } catch (IOException e) {
+            throw new SerializationException("세션 사용자 직렬화 실패", e);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static SessionUser readSessionUser(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            byte version = in.readByte();
+            if (version != SESSION_USER_VERSION) {
+                throw new SerializationException("지원하지 않는 세션 사용자 형식 버전입니다: " + version);
+            }
+            long id = in.readLong();
+            return new SessionUser(id >= 0 ? id : null, readNullable(in), readNullable(in), readNullable(in), readNullable(in));
+        } catch (IOException e) {
+            throw new SerializationException("세션 사용자 역직렬화 실패", e);
+        }
+    }
+
+    // 길이(-1이면 null) + UTF-8 바이트
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,16 @@
+package com.smoking_map.smoking_map.config.session;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+// 세션 저장소는 Spring Session(Redis)의 자동 설정을 쓰고, 속성 값 직렬화기만 바꿉니다 (spring.session.* 설정).
+@Configuration
+public class SessionConfig {
+
+    // Spring Session이 이 이름의 빈을 찾아 세션 속성 값 직렬화에 사용합니다.
+    @Bean("springSessionDefaultRedisSerializer")
+    public RedisSerializer<Object> springSessionDefaultRedisSerializer() {
+        return new CompactSessionSerializer();
+    }
+}
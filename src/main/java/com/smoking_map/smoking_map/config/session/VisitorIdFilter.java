@@ -0,0 +1,145 @@
+package com.smoking_map.smoking_map.config.session;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * 방문자 식별 쿠키 (서명된 무작위 id).
+ * <p>
+ * 조회수 중복 제거와 활동 기록에 쓰던 서버 세션 id 대신, 모든 방문자에게 {@code id.서명} 형태의 쿠키를 줍니다.
+ * 서버에는 아무것도 저장하지 않으므로 비로그인 방문자가 늘어도 세션 저장소가 커지지 않고, 배포 후에도 같은 id가 유지됩니다.
+ * 서명(HMAC-SHA256)이 맞지 않는 쿠키는 새 id로 바꿔, 클라이언트가 임의의 id를 골라 보낼 수 없게 합니다.
+ * 서버가 여러 대면 visitor.cookie-secret을 같은 값으로 설정해야 하며, local/test 프로필이 아니면 설정하지 않았을 때 시작하지 않습니다.
+ */
+@Slf4j
+@Component
+public class VisitorIdFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "VISITOR";
+    static final String ATTRIBUTE = VisitorIdFilter.class.getName() + ".visitorId";
+
+    private static final int ID_BYTES = 16;
+    private static final int SIGNATURE_BYTES = 16;
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecureRandom random = new SecureRandom();
+    private final SecretKeySpec key;
+    private final Duration maxAge;
+
+    public VisitorIdFilter(@Value("${visitor.cookie-secret:}") String secret,
+                           @Value("${visitor.cookie-max-age:365d}") Duration maxAge,
+                           Environment environment) {
+        byte[] keyBytes;
+        if (StringUtils.hasText(secret)) {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        } else if (!environment.acceptsProfiles(Profiles.of("local", "test"))) {
+            // 서버마다 임시 키를 쓰면 다른 서버로 간 요청마다 쿠키가 새로 발급되어 조회수 중복 제거가 무력화됩니다.
+            throw new IllegalStateException("visitor.cookie-secret(VISITOR_COOKIE_SECRET)을 설정해야 합니다.");
+        } else {
+            log.warn("visitor.cookie-secret이 없어 임시 키를 사용합니다. 재시작하면 방문자 쿠키가 모두 새로 발급됩니다.");
+            keyBytes = new byte[32];
+            random.nextBytes(keyBytes);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.maxAge = maxAge;
+    }
+
+    // 현재 요청의 방문자 id. 이 필터를 거친 요청이면 항상 있습니다.
+    public static String getVisitorId(HttpServletRequest request) {
+        return (String) request.getAttribute(ATTRIBUTE);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String visitorId = verify(readCookie(request));
+        if (visitorId == null) {
+            visitorId = newId();
+            ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, visitorId + "." + sign(visitorId))
+                    .path("/")
+                    .maxAge(maxAge)
+                    .httpOnly(true)
+                    .secure(request.isSecure())
+                    .sameSite("Lax")
+                    .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+        request.setAttribute(ATTRIBUTE, visitorId);
+        filterChain.doFilter(request, response);
+    }
+
+    // 서명이 맞으면 id, 아니면 null
+    String verify(String cookieValue) {
+        if (cookieValue == null) {
+            return null;
+        }
+        int dot = cookieValue.indexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        String id = cookieValue.substring(0, dot);
+        byte[] signature;
+        try {
+            signature = DECODER.decode(cookieValue.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return MessageDigest.isEqual(signature, DECODER.decode(sign(id))) ? id : null;
+    }
+
+    String sign(String id) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] digest = mac.doFinal(id.getBytes(StandardCharsets.UTF_8));
+            byte[] truncated = new byte[SIGNATURE_BYTES];
+            System.arraycopy(digest, 0, truncated, 0, SIGNATURE_BYTES);
+            return ENCODER.encodeToString(truncated);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("방문자 쿠키 서명 실패", e);
+        }
+    }
+
+    private String newId() {
+        byte[] bytes = new byte[ID_BYTES];
+        random.nextBytes(bytes);
+        return ENCODER.encodeToString(bytes);
+    }
+
+    private static String readCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+}
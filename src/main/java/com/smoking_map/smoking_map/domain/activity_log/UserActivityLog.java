@@ -29,7 +29,7 @@ public class UserActivityLog extends BaseTimeEntity {
     @Column
     private Long userId;
 
-    // 비로그인 사용자를 포함한 세션 식별자
+    // 비로그인 사용자를 포함한 방문자 식별자 (방문자 쿠키 id, VisitorIdFilter)
     @Column(nullable = false)
     private String sessionId;
 
@@ -13,4 +13,8 @@ public interface AnnouncementRepository extends JpaRepository<Announcement, Long
     // 현재 시간에 활성화되어 있는 공지 중 가장 최근에 생성된 것을 찾는 쿼리
     @Query("SELECT a FROM Announcement a WHERE a.active = true AND a.startDate <= :now AND a.endDate >= :now ORDER BY a.createdAt DESC")
     List<Announcement> findActiveAnnouncements(@Param("now") LocalDateTime now); // --- ▼▼▼ [수정] 메서드명 및 반환 타입 변경 ▼▼▼ ---
-}
\ No newline at end of file
+
+    // --- ▼▼▼ [추가] 현재 게시 중이거나 앞으로 게시될 공지 (활성 공지 스냅샷의 유효 시각 계산용) ▼▼▼ ---
+    @Query("SELECT a FROM Announcement a WHERE a.active = true AND a.endDate >= :now ORDER BY a.createdAt DESC")
+    List<Announcement> findActiveOrUpcomingAnnouncements(@Param("now") LocalDateTime now);
+}
@@ -3,11 +3,22 @@ package com.smoking_map.smoking_map.domain.edit_request;
 
 import com.smoking_map.smoking_map.domain.place.Place;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.List;
 
 public interface EditRequestRepository extends JpaRepository<EditRequest, Long> {
 
     List<EditRequest> findAllByPlaceAndStatus(Place place, RequestStatus status);
 
-    List<EditRequest> findAllByStatus(RequestStatus status);
+    // --- ▼▼▼ [추가] 장소의 수정 제안 상태를 한 번에 변경하고 변경된 수를 반환 (대기 중 수 차감용) ▼▼▼ ---
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EditRequest e SET e.status = :to WHERE e.place.id = :placeId AND e.status = :from")
+    int updateStatusByPlaceId(@Param("placeId") Long placeId, @Param("from") RequestStatus from, @Param("to") RequestStatus to);
+
+    // 통계 보정용: 장소별 수정 제안 수
+    @Query("SELECT e.place.id, COUNT(e) FROM EditRequest e WHERE e.status = :status GROUP BY e.place.id")
+    List<Object[]> countByPlaceAndStatus(@Param("status") RequestStatus status);
 }
\ No newline at end of file
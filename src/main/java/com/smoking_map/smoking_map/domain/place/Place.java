@@ -8,6 +8,7 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -17,6 +18,11 @@ import java.util.stream.Collectors;
 @Getter
 @NoArgsConstructor
 @Entity
+// --- ▼▼▼ [추가] 바뀐 컬럼만 UPDATE: 설명 수정 등이 그 사이 UPDATE 문으로 증감한 카운터(리뷰/즐겨찾기/조회수)를 옛 값으로 덮어쓰지 않도록 ▼▼▼ ---
+@DynamicUpdate
+@Table(indexes = {
+        @Index(name = "idx_place_lat_lng", columnList = "latitude, longitude") // 지도 영역(bbox) 조회용 인덱스
+})
 public class Place extends BaseTimeEntity {
 
     @Id
@@ -47,8 +53,19 @@ public class Place extends BaseTimeEntity {
 
     @Column(columnDefinition = "integer default 0")
     private int reviewCount = 0;
+
+    // 평점 합계: 리뷰 추가/삭제 때 합계와 개수만 증감해 평균을 다시 계산합니다 (PlaceRepository.addReviewRating)
+    @Column(columnDefinition = "bigint default 0")
+    private long ratingSum = 0;
     // --- ▲▲▲ [추가] 평균 평점 및 리뷰 수 필드 ▲▲▲ ---
 
+    // --- ▼▼▼ [추가] 즐겨찾기 수와 대기 중인 수정 제안 수 (추가/삭제/상태 변경 때 UPDATE 한 문장으로 증감) ▼▼▼ ---
+    @Column(columnDefinition = "integer default 0")
+    private int favoriteCount = 0;
+
+    @Column(columnDefinition = "integer default 0")
+    private int pendingEditCount = 0;
+
 
     // --- ▼▼▼ [수정] 정렬 순서 변경: 대표 이미지가 맨 앞으로, 나머지는 ID 순으로 ▼▼▼ ---
     @OneToMany(mappedBy = "place", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
@@ -91,13 +108,4 @@ public class Place extends BaseTimeEntity {
     public void updateDescription(String description) {
         this.description = description;
     }
-
-    public void increaseViewCount() {
-        this.viewCount++;
-    }
-    // --- ▼▼▼ [추가] 평점 및 리뷰 수 업데이트 메서드 ▼▼▼ ---
-    public void updateReviewStats(double averageRating, int reviewCount) {
-        this.averageRating = averageRating;
-        this.reviewCount = reviewCount;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.smoking_map.smoking_map.domain.place;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카탈로그 버전 카운터 (단일 행).
+ * 장소를 변경하는 트랜잭션은 이 행에 쓰기 락을 잡고 버전을 올리므로, 버전은 커밋 순서와 같은 순서로 발급되고
+ * 낮은 버전이 나중에 커밋되어 델타 동기화에서 누락되는 일이 없습니다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+public class PlaceCatalogVersion {
+
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    private Long version;
+
+    public PlaceCatalogVersion(Long version) {
+        this.id = SINGLETON_ID;
+        this.version = version;
+    }
+
+    public long increase() {
+        this.version++;
+        return this.version;
+    }
+}
@@ -0,0 +1,17 @@
+package com.smoking_map.smoking_map.domain.place;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface PlaceCatalogVersionRepository extends JpaRepository<PlaceCatalogVersion, Long> {
+
+    // SELECT ... FOR UPDATE: 트랜잭션이 끝날 때까지 다른 트랜잭션의 버전 발급을 대기시킵니다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM PlaceCatalogVersion v WHERE v.id = :id")
+    Optional<PlaceCatalogVersion> findByIdForUpdate(@Param("id") Long id);
+}
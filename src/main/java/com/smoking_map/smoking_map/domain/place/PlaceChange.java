@@ -0,0 +1,38 @@
+package com.smoking_map.smoking_map.domain.place;
+
+import com.smoking_map.smoking_map.domain.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 장소 변경 이력 (추가만 하고 수정/삭제하지 않습니다). 클라이언트 델타 동기화에 사용됩니다.
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(indexes = {@Index(name = "uk_place_change_version", columnList = "version", unique = true)})
+public class PlaceChange extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 카탈로그 버전. 커밋 순서대로 1씩 증가합니다.
+    @Column(nullable = false)
+    private Long version;
+
+    // 삭제된 장소도 기록해야 하므로 연관관계 대신 id만 저장
+    @Column(nullable = false)
+    private Long placeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PlaceChangeType type;
+
+    @Builder
+    public PlaceChange(Long version, Long placeId, PlaceChangeType type) {
+        this.version = version;
+        this.placeId = placeId;
+        this.type = type;
+    }
+}
@@ -0,0 +1,14 @@
+package com.smoking_map.smoking_map.domain.place;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface PlaceChangeRepository extends JpaRepository<PlaceChange, Long> {
+    List<PlaceChange> findByVersionGreaterThanOrderByVersionAsc(Long version, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(c.version), 0) FROM PlaceChange c")
+    long findLatestVersion();
+}
@@ -0,0 +1,7 @@
+package com.smoking_map.smoking_map.domain.place;
+
+public enum PlaceChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,69 @@
+package com.smoking_map.smoking_map.domain.place;
+
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * 장소 목록 응답용 읽기 전용 조회.
+ * <p>
+ * 엔티티를 읽은 뒤 장소마다 지연 로딩되는 imageInfos를 건드리는 대신(N+1), 같은 조건으로
+ * 장소 컬럼(PLACE_COLUMNS)과 이미지 URL을 각각 한 번씩 조회합니다. 장소 수와 관계없이 항상 쿼리 2개입니다.
+ * <ul>
+ *     <li>장소 행: id, latitude, longitude, originalAddress, roadAddress, description, averageRating, reviewCount</li>
+ *     <li>이미지 행: placeId, imageUrl (장소 안에서는 Place.imageInfos와 같은 순서)</li>
+ * </ul>
+ */
+public interface PlaceQueryRepository extends Repository<Place, Long> {
+
+    String PLACE_COLUMNS = "p.id, p.latitude, p.longitude, p.originalAddress, p.roadAddress, p.description, p.averageRating, p.reviewCount";
+    String IMAGE_ORDER = " ORDER BY i.place.id, i.isRepresentative DESC, i.id";
+
+    // 스트리밍용: 장소 행 + 이미지 URL을 한 번에 (장소당 이미지 수만큼 행, 이미지가 없으면 imageUrl이 null인 1행)
+    String PLACE_IMAGE_ROWS = "SELECT " + PLACE_COLUMNS + ", i.imageUrl FROM Place p LEFT JOIN p.imageInfos i " +
+            "ORDER BY p.id, i.isRepresentative DESC, i.id";
+
+    // 관리자 장소 목록/내보내기용: id, roadAddress, description, 이미지 수, 등록자 이메일, createdAt, 즐겨찾기 수, 리뷰 수,
+    // 대기 중인 수정 제안 수, 순 방문자 추정치(없으면 null). 집계 값은 장소에 저장해 둔 카운터를 그대로 읽습니다.
+    String ADMIN_PLACE_FROM = "SELECT p.id, p.roadAddress, p.description, SIZE(p.imageInfos), u.email, p.createdAt, " +
+            "p.favoriteCount, p.reviewCount, p.pendingEditCount, " +
+            "(SELECT s.uniqueViewers FROM PlaceViewSketch s WHERE s.placeId = p.id) " +
+            "FROM Place p LEFT JOIN p.user u";
+    String ADMIN_EXPORT_ROWS = ADMIN_PLACE_FROM + " ORDER BY p.id";
+
+    @Query(ADMIN_EXPORT_ROWS)
+    List<Object[]> findAdminPlaceRows();
+
+    @Query(ADMIN_PLACE_FROM + " WHERE p.roadAddress LIKE %:keyword% ORDER BY p.id")
+    List<Object[]> findAdminPlaceRowsByRoadAddress(@Param("keyword") String keyword);
+
+    // 전체 장소
+    @Query("SELECT " + PLACE_COLUMNS + " FROM Place p ORDER BY p.id")
+    List<Object[]> findAllPlaceRows();
+
+    @Query("SELECT i.place.id, i.imageUrl FROM ImageInfo i" + IMAGE_ORDER)
+    List<Object[]> findAllImageRows();
+
+    // 필터 색인용 등록 시각: id, createdAt
+    @Query("SELECT p.id, p.createdAt FROM Place p ORDER BY p.id")
+    List<Object[]> findAllCreatedAtRows();
+
+    // 주소 검색 (PlaceRepository.findByAddressKeyword와 같은 조건)
+    @Query("SELECT " + PLACE_COLUMNS + " FROM Place p " +
+            "WHERE p.roadAddress LIKE %:keyword% OR p.originalAddress LIKE %:keyword% ORDER BY p.id")
+    List<Object[]> findPlaceRowsByAddressKeyword(@Param("keyword") String keyword);
+
+    @Query("SELECT i.place.id, i.imageUrl FROM ImageInfo i JOIN i.place p " +
+            "WHERE p.roadAddress LIKE %:keyword% OR p.originalAddress LIKE %:keyword%" + IMAGE_ORDER)
+    List<Object[]> findImageRowsByAddressKeyword(@Param("keyword") String keyword);
+
+    // 사용자의 즐겨찾기 장소 (즐겨찾기한 순서)
+    @Query("SELECT " + PLACE_COLUMNS + " FROM Favorite f JOIN f.place p WHERE f.user.id = :userId ORDER BY f.id")
+    List<Object[]> findFavoritePlaceRowsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT i.place.id, i.imageUrl FROM ImageInfo i " +
+            "WHERE i.place.id IN (SELECT f.place.id FROM Favorite f WHERE f.user.id = :userId)" + IMAGE_ORDER)
+    List<Object[]> findFavoriteImageRowsByUserId(@Param("userId") Long userId);
+}
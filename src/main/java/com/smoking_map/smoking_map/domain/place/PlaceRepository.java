@@ -1,10 +1,14 @@
 package com.smoking_map.smoking_map.domain.place;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional; // --- ▼▼▼ [추가] import ▼▼▼ ---
 
@@ -23,4 +27,62 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     // --- ▼▼▼ [추가] 장소와 수정 제안 목록을 함께 조회하는 쿼리 ▼▼▼ ---
     @Query("SELECT p FROM Place p LEFT JOIN FETCH p.editRequests WHERE p.id = :id")
     Optional<Place> findByIdWithEditRequests(@Param("id") Long id);
-}
\ No newline at end of file
+
+    // --- ▼▼▼ [추가] 지도 영역(bbox) 내 장소 조회 (idx_place_lat_lng 인덱스 사용, Pageable로 개수 제한) ▼▼▼ ---
+    @Query("SELECT p FROM Place p WHERE p.latitude BETWEEN :minLat AND :maxLat AND p.longitude BETWEEN :minLng AND :maxLng ORDER BY p.id")
+    List<Place> findInBounds(@Param("minLat") BigDecimal minLat,
+                             @Param("minLng") BigDecimal minLng,
+                             @Param("maxLat") BigDecimal maxLat,
+                             @Param("maxLng") BigDecimal maxLng,
+                             Pageable pageable);
+
+    // --- ▼▼▼ [추가] 공간 인덱스 적재용: 엔티티 대신 id/위도/경도만 조회 ▼▼▼ ---
+    @Query("SELECT p.id, p.latitude, p.longitude FROM Place p")
+    List<Object[]> findAllCoordinates();
+
+    // --- ▼▼▼ [추가] 장소 카탈로그 적재용: 이미지 목록을 함께 조회 (id 순) ▼▼▼ ---
+    @Query("SELECT DISTINCT p FROM Place p LEFT JOIN FETCH p.imageInfos ORDER BY p.id")
+    List<Place> findAllWithImageInfos();
+
+    // --- ▼▼▼ [추가] 델타 동기화용: 지정한 장소들을 이미지 목록과 함께 조회 ▼▼▼ ---
+    @Query("SELECT DISTINCT p FROM Place p LEFT JOIN FETCH p.imageInfos WHERE p.id IN :ids")
+    List<Place> findAllWithImageInfosByIdIn(@Param("ids") Collection<Long> ids);
+
+    // --- ▼▼▼ [추가] 리뷰 통계 원자적 증감: 행을 잠그는 UPDATE 한 문장이라 동시에 작성된 리뷰도 빠짐없이 반영됩니다 ▼▼▼ ---
+    // averageRating을 맨 앞에 두어 MySQL(SET을 왼쪽부터 적용)에서도 증감 전 합계/개수로 계산합니다.
+    // 같은 트랜잭션의 변경을 먼저 flush하고, 영속성 컨텍스트의 오래된 Place를 비우기 위해 clear합니다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Place p SET p.averageRating = (p.ratingSum + :rating) * 1.0 / (p.reviewCount + 1), " +
+            "p.ratingSum = p.ratingSum + :rating, p.reviewCount = p.reviewCount + 1 WHERE p.id = :placeId")
+    int addReviewRating(@Param("placeId") Long placeId, @Param("rating") int rating);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Place p SET p.averageRating = CASE WHEN p.reviewCount > 1 THEN (p.ratingSum - :rating) * 1.0 / (p.reviewCount - 1) ELSE 0.0 END, " +
+            "p.ratingSum = p.ratingSum - :rating, p.reviewCount = p.reviewCount - 1 WHERE p.id = :placeId")
+    int removeReviewRating(@Param("placeId") Long placeId, @Param("rating") int rating);
+
+    // --- ▼▼▼ [추가] 즐겨찾기 수 / 대기 중인 수정 제안 수 증감 (없는 장소면 0 반환) ▼▼▼ ---
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Place p SET p.favoriteCount = p.favoriteCount + :delta WHERE p.id = :placeId")
+    int addFavoriteCount(@Param("placeId") Long placeId, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Place p SET p.pendingEditCount = p.pendingEditCount + :delta WHERE p.id = :placeId")
+    int addPendingEditCount(@Param("placeId") Long placeId, @Param("delta") int delta);
+
+    // 통계 보정용: id, reviewCount, ratingSum, averageRating, favoriteCount, pendingEditCount
+    @Query("SELECT p.id, p.reviewCount, p.ratingSum, p.averageRating, p.favoriteCount, p.pendingEditCount FROM Place p")
+    List<Object[]> findAllStatsRows();
+
+    // 지정한 장소의 통계를 리뷰/즐겨찾기/수정 제안 테이블에서 처음부터 다시 계산합니다 (읽는 시점의 값으로 한 문장에 갱신)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Place p SET " +
+            "p.averageRating = COALESCE((SELECT AVG(r.rating) FROM Review r WHERE r.place.id = p.id), 0.0), " +
+            "p.ratingSum = COALESCE((SELECT SUM(r.rating) FROM Review r WHERE r.place.id = p.id), 0), " +
+            "p.reviewCount = (SELECT COUNT(r) FROM Review r WHERE r.place.id = p.id), " +
+            "p.favoriteCount = (SELECT COUNT(f) FROM Favorite f WHERE f.place.id = p.id), " +
+            "p.pendingEditCount = (SELECT COUNT(e) FROM EditRequest e WHERE e.place.id = p.id " +
+            "AND e.status = com.smoking_map.smoking_map.domain.edit_request.RequestStatus.PENDING) " +
+            "WHERE p.id IN :ids")
+    int recomputeStats(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,37 @@
+package com.smoking_map.smoking_map.domain.place;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 장소별 순 방문자(세션) 수 HyperLogLog 스케치.
+ * 서버마다 메모리에 모은 스케치를 주기적으로 이 행에 병합(레지스터별 최댓값)하고, 추정치도 함께 저장해 목록 조회 시 바로 씁니다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+public class PlaceViewSketch {
+
+    @Id
+    private Long placeId;
+
+    // HLL 레지스터 (정밀도 10 → 1024바이트)
+    @Column(nullable = false, length = 1024)
+    private byte[] registers;
+
+    private long uniqueViewers;
+
+    public PlaceViewSketch(Long placeId, byte[] registers, long uniqueViewers) {
+        this.placeId = placeId;
+        this.registers = registers;
+        this.uniqueViewers = uniqueViewers;
+    }
+
+    public void update(byte[] registers, long uniqueViewers) {
+        this.registers = registers;
+        this.uniqueViewers = uniqueViewers;
+    }
+}
@@ -0,0 +1,28 @@
+package com.smoking_map.smoking_map.domain.place;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PlaceViewSketchRepository extends JpaRepository<PlaceViewSketch, Long> {
+
+    // 병합 중 다른 서버가 같은 행을 덮어쓰지 않도록 SELECT ... FOR UPDATE (id 순으로 잠가 교착을 피합니다)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PlaceViewSketch s WHERE s.placeId IN :placeIds ORDER BY s.placeId")
+    List<PlaceViewSketch> findAllByIdForUpdate(@Param("placeIds") Collection<Long> placeIds);
+
+    // 장소 id, 순 방문자 추정치
+    @Query("SELECT s.placeId, s.uniqueViewers FROM PlaceViewSketch s")
+    List<Object[]> findAllEstimates();
+
+    // 장소 삭제 시 함께 삭제 (place 외래 키가 없어 직접 지워야 합니다)
+    @Modifying
+    @Query("DELETE FROM PlaceViewSketch s WHERE s.placeId = :placeId")
+    int deleteByPlaceId(@Param("placeId") Long placeId);
+}
@@ -14,6 +14,9 @@ import lombok.NoArgsConstructor;
 @Table(
         uniqueConstraints = {
                 @UniqueConstraint(columnNames = {"user_id", "place_id"}) // 한 사용자는 한 장소에 하나의 리뷰만 작성 가능
+        },
+        indexes = {
+                @Index(name = "idx_review_place_id_id", columnList = "place_id, id") // 장소별 리뷰 커서 페이지 조회용 인덱스
         }
 )
 public class Review extends BaseTimeEntity {
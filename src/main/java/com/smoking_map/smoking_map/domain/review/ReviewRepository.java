@@ -1,6 +1,6 @@
 package com.smoking_map.smoking_map.domain.review;
 
-import com.smoking_map.smoking_map.domain.place.Place;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,20 +9,22 @@ import java.util.List;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
 
-    List<Review> findByPlace(Place place);
-
-    // --- ▼▼▼ [수정] 쿼리를 두 개로 명확하게 분리 ▼▼▼ ---
-
-    // 장소의 평균 평점을 Double 타입으로 직접 조회 (결과 없으면 null 반환)
-    @Query("SELECT AVG(r.rating) FROM Review r WHERE r.place = :place")
-    Double findAverageRatingByPlace(@Param("place") Place place);
-
-    // 장소의 리뷰 수를 Long 타입으로 직접 조회 (결과 없으면 0 반환)
-    @Query("SELECT COUNT(r) FROM Review r WHERE r.place = :place")
-    Long countByPlace(@Param("place") Place place);
-
-    // --- ▲▲▲ [수정] 기존 getReviewStatsByPlace 메서드는 삭제 ▲▲▲ ---
     // --- ▼▼▼ [추가] 장소별 리뷰 수를 계산하는 쿼리 ▼▼▼ ---
     @Query("SELECT r.place.id, COUNT(r) FROM Review r GROUP BY r.place.id")
     List<Object[]> countReviewsByPlace();
-}
\ No newline at end of file
+
+    // --- ▼▼▼ [추가] 리뷰 통계 보정용: 장소별 리뷰 수와 평점 합계 ▼▼▼ ---
+    @Query("SELECT r.place.id, COUNT(r), SUM(r.rating) FROM Review r GROUP BY r.place.id")
+    List<Object[]> sumRatingsByPlace();
+
+    // --- ▼▼▼ [추가] 장소의 리뷰를 최신순으로 id < after 부터 조회 (작성자 정보까지 조인한 컬럼만, idx_review_place_id_id 사용) ▼▼▼ ---
+    // 행 형태: [id, rating, comment, createdAt, userName, userPicture, userEmail]
+    @Query("SELECT r.id, r.rating, r.comment, r.createdAt, u.name, u.picture, u.email " +
+            "FROM Review r JOIN r.user u WHERE r.place.id = :placeId AND r.id < :after ORDER BY r.id DESC")
+    List<Object[]> findReviewRowsByPlaceId(@Param("placeId") Long placeId, @Param("after") Long after, Pageable pageable);
+
+    // 기존 전체 목록 API(GET /api/v1/places/{placeId}/reviews)용: 같은 컬럼을 예전처럼 작성순(id 오름차순)으로 전부 조회
+    @Query("SELECT r.id, r.rating, r.comment, r.createdAt, u.name, u.picture, u.email " +
+            "FROM Review r JOIN r.user u WHERE r.place.id = :placeId ORDER BY r.id ASC")
+    List<Object[]> findAllReviewRowsByPlaceId(@Param("placeId") Long placeId);
+}
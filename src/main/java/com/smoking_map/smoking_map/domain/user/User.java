@@ -9,7 +9,8 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @Entity
-@Table(name = "users")
+// 로그인 시 이메일로 사용자를 찾으므로 이메일에 인덱스를 둡니다.
+@Table(name = "users", indexes = @Index(name = "idx_users_email", columnList = "email"))
 public class User extends BaseTimeEntity {
 
     @Id
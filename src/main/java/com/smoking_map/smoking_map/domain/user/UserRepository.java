@@ -2,12 +2,17 @@ package com.smoking_map.smoking_map.domain.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.time.LocalDateTime; // --- ▼▼▼ [추가] import ▼▼▼ ---
 import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    // --- ▼▼▼ [추가] 엔티티 없이 id만 조회 (세션에 id가 없을 때 UserIdCache에서 사용) ▼▼▼ ---
+    @Query("SELECT u.id FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
     List<User> findTop5ByOrderByIdDesc();
 
     @Query("SELECT p.user, COUNT(p) FROM Place p WHERE p.user IS NOT NULL GROUP BY p.user")
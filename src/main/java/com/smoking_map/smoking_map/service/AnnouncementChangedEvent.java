@@ -0,0 +1,11 @@
+package com.smoking_map.smoking_map.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 공지가 생성/수정/삭제되었을 때 발행되는 이벤트 (활성 공지 스냅샷 무효화용)
+@Getter
+@RequiredArgsConstructor
+public class AnnouncementChangedEvent {
+    private final Long announcementId;
+}
@@ -1,15 +1,22 @@
 package com.smoking_map.smoking_map.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.smoking_map.smoking_map.domain.announcement.Announcement;
 import com.smoking_map.smoking_map.domain.announcement.AnnouncementRepository;
 import com.smoking_map.smoking_map.web.dto.AnnouncementResponseDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors; // --- ▼▼▼ [추가] import ▼▼▼ ---
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @RequiredArgsConstructor
@@ -17,13 +24,83 @@ import java.util.stream.Collectors; // --- ▼▼▼ [추가] import ▼▼▼ -
 public class AnnouncementService {
 
     private final AnnouncementRepository announcementRepository;
+    private final ObjectMapper objectMapper;
+
+    // --- ▼▼▼ [추가] 활성 공지 스냅샷 (공지 변경 또는 다음 시작/종료 시각까지 유효) ▼▼▼ ---
+    private volatile ActiveSnapshot activeSnapshot;
+    // 변경 직전에 읽기 시작한 오래된 스냅샷이 무효화 이후에 저장되지 않도록 세대를 비교합니다.
+    private final AtomicLong generation = new AtomicLong();
 
     // --- ▼▼▼ [수정] 활성화된 모든 공지를 리스트로 반환하도록 변경 ▼▼▼ ---
     public List<AnnouncementResponseDto> getActiveAnnouncements() {
-        return announcementRepository.findActiveAnnouncements(LocalDateTime.now())
-                .stream()
-                .map(AnnouncementResponseDto::new)
-                .collect(Collectors.toList());
+        return currentSnapshot().announcements;
     }
     // --- ▲▲▲ [수정] 활성화된 모든 공지를 리스트로 반환하도록 변경 ▲▲▲ ---
-}
\ No newline at end of file
+
+    // 활성 공지 목록의 ETag. 스냅샷을 만들 때 한 번만 계산합니다.
+    public String getActiveAnnouncementsETag() {
+        return currentSnapshot().eTag;
+    }
+
+    // 클래스의 읽기 전용 트랜잭션을 물려받지 않게 합니다 (커밋 이후 리스너는 REQUIRES_NEW/NOT_SUPPORTED만 허용).
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onAnnouncementChanged(AnnouncementChangedEvent event) {
+        generation.incrementAndGet();
+        activeSnapshot = null;
+    }
+
+    private ActiveSnapshot currentSnapshot() {
+        LocalDateTime now = LocalDateTime.now();
+        ActiveSnapshot snapshot = activeSnapshot;
+        if (snapshot == null || !now.isBefore(snapshot.validUntil)) {
+            long loadingGeneration = generation.get();
+            snapshot = loadSnapshot(now);
+            if (generation.get() == loadingGeneration) {
+                activeSnapshot = snapshot;
+            }
+        }
+        return snapshot;
+    }
+
+    private ActiveSnapshot loadSnapshot(LocalDateTime now) {
+        List<Announcement> candidates = announcementRepository.findActiveOrUpcomingAnnouncements(now);
+
+        // 지금 게시 중인 공지와, 목록이 바뀌는 가장 가까운 시각(게시 예정 공지의 시작 / 게시 중 공지의 종료)을 구합니다.
+        List<AnnouncementResponseDto> announcements = new ArrayList<>();
+        LocalDateTime validUntil = LocalDateTime.MAX;
+        for (Announcement announcement : candidates) {
+            LocalDateTime boundary;
+            if (announcement.getStartDate().isAfter(now)) {
+                boundary = announcement.getStartDate();
+            } else {
+                announcements.add(new AnnouncementResponseDto(announcement));
+                boundary = announcement.getEndDate();
+            }
+            if (boundary.isBefore(validUntil)) {
+                validUntil = boundary;
+            }
+        }
+        return new ActiveSnapshot(Collections.unmodifiableList(announcements), hash(announcements), validUntil);
+    }
+
+    private String hash(List<AnnouncementResponseDto> announcements) {
+        try {
+            return DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(announcements));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("공지 목록 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private static final class ActiveSnapshot {
+        final List<AnnouncementResponseDto> announcements;
+        final String eTag;
+        final LocalDateTime validUntil;
+
+        ActiveSnapshot(List<AnnouncementResponseDto> announcements, String eTag, LocalDateTime validUntil) {
+            this.announcements = announcements;
+            this.eTag = eTag;
+            this.validUntil = validUntil;
+        }
+    }
+}
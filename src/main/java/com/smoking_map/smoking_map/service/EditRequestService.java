@@ -5,7 +5,6 @@ import com.smoking_map.smoking_map.config.auth.dto.SessionUser;
 import com.smoking_map.smoking_map.domain.edit_request.EditRequest;
 import com.smoking_map.smoking_map.domain.edit_request.EditRequestRepository;
 import com.smoking_map.smoking_map.domain.edit_request.RequestStatus;
-import com.smoking_map.smoking_map.domain.place.Place;
 import com.smoking_map.smoking_map.domain.place.PlaceRepository;
 import com.smoking_map.smoking_map.domain.user.User;
 import com.smoking_map.smoking_map.domain.user.UserRepository;
@@ -24,14 +23,20 @@ public class EditRequestService {
 
     @Transactional
     public void saveEditRequest(Long placeId, EditRequestSaveDto requestDto, SessionUser sessionUser) {
-        User user = userRepository.findByEmail(sessionUser.getEmail())
-                .orElseThrow(() -> new IllegalArgumentException("해당 사용자가 없습니다. email=" + sessionUser.getEmail()));
+        // --- ▼▼▼ [수정] 세션의 사용자 id로 참조만 연결 (이메일로 사용자 조회 없음) ▼▼▼ ---
+        // 없어진 사용자의 세션이면 외래 키 오류 대신 기존처럼 잘못된 요청으로 응답합니다.
+        if (!userRepository.existsById(sessionUser.getId())) {
+            throw new IllegalArgumentException("해당 사용자가 없습니다. id=" + sessionUser.getId());
+        }
+        User user = userRepository.getReferenceById(sessionUser.getId());
 
-        Place place = placeRepository.findById(placeId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 장소가 없습니다. id=" + placeId));
+        // --- ▼▼▼ [수정] 대기 중인 수정 제안 수를 먼저 올려 장소 행을 잠근 뒤 저장 (없는 장소면 갱신된 행이 0개) ▼▼▼ ---
+        if (placeRepository.addPendingEditCount(placeId, 1) == 0) {
+            throw new IllegalArgumentException("해당 장소가 없습니다. id=" + placeId);
+        }
 
         EditRequest editRequest = EditRequest.builder()
-                .place(place)
+                .place(placeRepository.getReferenceById(placeId))
                 .user(user)
                 .content(requestDto.getContent())
                 .status(RequestStatus.PENDING)
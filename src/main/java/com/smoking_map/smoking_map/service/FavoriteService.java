@@ -1,17 +1,17 @@
 package com.smoking_map.smoking_map.service;
 
-import com.smoking_map.smoking_map.domain.favorite.Favorite;
-import com.smoking_map.smoking_map.domain.favorite.FavoriteRepository;
-import com.smoking_map.smoking_map.domain.place.Place;
+import com.smoking_map.smoking_map.domain.place.PlaceQueryRepository;
 import com.smoking_map.smoking_map.domain.place.PlaceRepository;
-import com.smoking_map.smoking_map.domain.user.User;
 import com.smoking_map.smoking_map.domain.user.UserRepository;
+import com.smoking_map.smoking_map.service.place.PlaceTrendTracker;
 import com.smoking_map.smoking_map.web.dto.PlaceResponseDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Collections;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -20,47 +20,58 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class FavoriteService {
 
-    private final FavoriteRepository favoriteRepository;
-    private final UserRepository userRepository;
+    // (user_id, place_id) 유니크 제약에 기대는 단일 문장 추가/삭제. 이미 있으면 중복 키 오류가 납니다.
+    static final String INSERT_SQL = "INSERT INTO favorite (user_id, place_id, created_at, modified_at) VALUES (?, ?, ?, ?)";
+    static final String DELETE_SQL = "DELETE FROM favorite WHERE user_id = ? AND place_id = ?";
+
     private final PlaceRepository placeRepository;
+    private final UserRepository userRepository;
+    private final PlaceQueryRepository placeQueryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final FavoriteSetCache favoriteSetCache;
+    private final PlaceTrendTracker placeTrendTracker;
 
+    // --- ▼▼▼ [수정] 멱등 추가: 이미 즐겨찾기한 장소면 아무것도 하지 않음 (장소/중복 확인 쿼리 없이 INSERT 한 번) ▼▼▼ ---
+    // 장소의 즐겨찾기 수를 먼저 올려 장소 행을 잠급니다 (없는 장소면 0행). INSERT가 먼저면 외래 키 확인의 공유 잠금 때문에
+    // 같은 장소에 동시에 즐겨찾기할 때 교착될 수 있습니다.
     @Transactional
-    public void addFavorite(String userEmail, Long placeId) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        Place place = placeRepository.findById(placeId)
-                .orElseThrow(() -> new IllegalArgumentException("Place not found"));
-
-        if (favoriteRepository.existsByUserAndPlace(user, place)) {
-            throw new IllegalStateException("Already favorited");
+    public void addFavorite(Long userId, Long placeId) {
+        // 없어진 사용자의 세션이면 외래 키 오류(500) 대신 기존처럼 잘못된 요청으로 응답합니다.
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found");
         }
-
-        favoriteRepository.save(Favorite.builder().user(user).place(place).build());
+        if (placeRepository.addFavoriteCount(placeId, 1) == 0) {
+            throw new IllegalArgumentException("Place not found");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            jdbcTemplate.update(INSERT_SQL, userId, placeId, now, now);
+        } catch (DuplicateKeyException e) {
+            placeRepository.addFavoriteCount(placeId, -1);
+            return;
+        }
+        favoriteSetCache.added(userId, placeId);
+        placeTrendTracker.recordFavorite(placeId);
     }
 
+    // --- ▼▼▼ [수정] 멱등 삭제: 즐겨찾기가 없어도 성공 (DELETE 한 번, 지운 경우에만 즐겨찾기 수 차감) ▼▼▼ ---
     @Transactional
-    public void removeFavorite(String userEmail, Long placeId) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        Place place = placeRepository.findById(placeId)
-                .orElseThrow(() -> new IllegalArgumentException("Place not found"));
-
-        Favorite favorite = favoriteRepository.findByUserAndPlace(user, place)
-                .orElseThrow(() -> new IllegalArgumentException("Favorite not found"));
-
-        favoriteRepository.delete(favorite);
+    public void removeFavorite(Long userId, Long placeId) {
+        if (jdbcTemplate.update(DELETE_SQL, userId, placeId) > 0) {
+            placeRepository.addFavoriteCount(placeId, -1);
+            favoriteSetCache.removed(userId, placeId);
+        }
     }
 
     @Transactional(readOnly = true)
-    public List<PlaceResponseDto> getFavorites(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-
+    public List<PlaceResponseDto> getFavorites(Long userId) {
+        // --- ▼▼▼ [수정] 즐겨찾기 장소와 이미지를 쿼리 2개로 조회 (장소별 지연 로딩 없음) ▼▼▼ ---
+        List<Object[]> placeRows = placeQueryRepository.findFavoritePlaceRowsByUserId(userId);
         // 즐겨찾기한 장소는 모두 isFavorited가 true여야 함
-        Set<Long> favoritedPlaceIds = Collections.singleton(0L); // 임시값, 실제로는 필요 없음
+        Set<Long> favoritedPlaceIds = placeRows.stream()
+                .map(row -> ((Number) row[0]).longValue())
+                .collect(Collectors.toSet());
 
-        return favoriteRepository.findByUser(user).stream()
-                .map(favorite -> new PlaceResponseDto(favorite.getPlace(), true))
-                .collect(Collectors.toList());
+        return PlaceResponseDto.fromRows(placeRows, placeQueryRepository.findFavoriteImageRowsByUserId(userId), favoritedPlaceIds);
     }
 }
\ No newline at end of file
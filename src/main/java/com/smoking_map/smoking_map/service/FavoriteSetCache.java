@@ -0,0 +1,148 @@
+package com.smoking_map.smoking_map.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.smoking_map.smoking_map.domain.favorite.FavoriteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 사용자별 즐겨찾기 장소 id 집합 캐시 (로컬 Caffeine + Redis SET).
+ * <p>
+ * Redis에는 사용자마다 SET 하나({@code favorites:user:{id}})를 두고, DB에서 읽어 채웠다는 표시로 LOADED 멤버를 함께 넣습니다.
+ * 표시가 없는 SET은 채워지지 않은 것으로 보고 DB에서 다시 읽습니다. 즐겨찾기 추가/삭제는 커밋 뒤 SADD/SREM으로
+ * 바로 반영(write-through)하고, 이 노드의 로컬 캐시도 함께 고칩니다. 다른 노드의 로컬 캐시는 짧은 TTL이 지나면 맞춰집니다.
+ * Redis 오류 시에는 DB 조회로 대신합니다.
+ */
+@Slf4j
+@Component
+public class FavoriteSetCache {
+
+    static final String KEY_PREFIX = "favorites:user:";
+    static final String LOADED = "loaded";
+
+    private final FavoriteRepository favoriteRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration remoteTtl;
+    // 값은 수정하지 않는 Set (변경 시 새 Set으로 교체)
+    private final Cache<Long, Set<Long>> local;
+
+    public FavoriteSetCache(FavoriteRepository favoriteRepository,
+                            StringRedisTemplate redisTemplate,
+                            @Value("${cache.favorites.local-maximum-size:10000}") long localMaximumSize,
+                            @Value("${cache.favorites.local-ttl:10s}") Duration localTtl,
+                            @Value("${cache.favorites.remote-ttl:1d}") Duration remoteTtl) {
+        this.favoriteRepository = favoriteRepository;
+        this.redisTemplate = redisTemplate;
+        this.remoteTtl = remoteTtl;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localTtl)
+                .build();
+    }
+
+    public Set<Long> get(long userId) {
+        return local.get(userId, this::loadRemote);
+    }
+
+    public boolean contains(long userId, long placeId) {
+        return get(userId).contains(placeId);
+    }
+
+    public void added(long userId, long placeId) {
+        afterCommit(() -> {
+            local.asMap().computeIfPresent(userId, (id, placeIds) -> {
+                Set<Long> updated = new HashSet<>(placeIds);
+                updated.add(placeId);
+                return Collections.unmodifiableSet(updated);
+            });
+            writeRemote(userId, () -> redisTemplate.opsForSet().add(key(userId), String.valueOf(placeId)));
+        });
+    }
+
+    public void removed(long userId, long placeId) {
+        afterCommit(() -> {
+            local.asMap().computeIfPresent(userId, (id, placeIds) -> {
+                Set<Long> updated = new HashSet<>(placeIds);
+                updated.remove(placeId);
+                return Collections.unmodifiableSet(updated);
+            });
+            writeRemote(userId, () -> redisTemplate.opsForSet().remove(key(userId), String.valueOf(placeId)));
+        });
+    }
+
+    // Redis SET을 읽고, 채워지지 않았으면 DB에서 읽어 채웁니다.
+    // DB 조회와 SADD 사이에 다른 요청의 SREM이 끼면 지운 id가 되살아날 수 있으나 Redis TTL 안에서만 유지됩니다.
+    private Set<Long> loadRemote(long userId) {
+        String key = key(userId);
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(key);
+            if (members != null && members.contains(LOADED)) {
+                Set<Long> placeIds = new HashSet<>();
+                for (String member : members) {
+                    if (!LOADED.equals(member)) {
+                        placeIds.add(Long.valueOf(member));
+                    }
+                }
+                return Collections.unmodifiableSet(placeIds);
+            }
+        } catch (RuntimeException e) {
+            log.warn("즐겨찾기 캐시 조회 실패, DB에서 읽습니다. userId={}: {}", userId, e.getMessage());
+            return Collections.unmodifiableSet(favoriteRepository.findPlaceIdsByUserId(userId));
+        }
+
+        Set<Long> placeIds = favoriteRepository.findPlaceIdsByUserId(userId);
+        String[] values = new String[placeIds.size() + 1];
+        int i = 0;
+        values[i++] = LOADED;
+        for (Long placeId : placeIds) {
+            values[i++] = String.valueOf(placeId);
+        }
+        writeRemote(userId, () -> redisTemplate.opsForSet().add(key, values));
+        return Collections.unmodifiableSet(placeIds);
+    }
+
+    // 쓰기 후 TTL을 다시 걸어 표시 없이 남은 SET도 만료되게 합니다. 실패하면 SET을 지워 다음 조회 때 DB에서 다시 채웁니다.
+    private void writeRemote(long userId, Runnable write) {
+        String key = key(userId);
+        try {
+            write.run();
+            redisTemplate.expire(key, remoteTtl);
+        } catch (RuntimeException e) {
+            log.warn("즐겨찾기 캐시 갱신 실패, 캐시를 비웁니다. userId={}: {}", userId, e.getMessage());
+            local.invalidate(userId);
+            try {
+                redisTemplate.delete(key);
+            } catch (RuntimeException ignored) {
+                // Redis를 쓸 수 없으면 TTL이 지날 때까지 기다립니다.
+            }
+        }
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에만 반영합니다 (롤백된 변경이 캐시에 남지 않게).
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static String key(long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,117 @@
+package com.smoking_map.smoking_map.service;
+
+import com.smoking_map.smoking_map.domain.edit_request.EditRequestRepository;
+import com.smoking_map.smoking_map.domain.edit_request.RequestStatus;
+import com.smoking_map.smoking_map.domain.favorite.FavoriteRepository;
+import com.smoking_map.smoking_map.domain.place.PlaceRepository;
+import com.smoking_map.smoking_map.domain.review.ReviewRepository;
+import com.smoking_map.smoking_map.service.place.PlaceChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장소에 저장해 둔 집계 값(리뷰 수, 평점 합계/평균, 즐겨찾기 수, 대기 중인 수정 제안 수)을 원본 테이블에서
+ * 처음부터 다시 계산해 어긋난 장소만 바로잡습니다.
+ * <p>
+ * 평소에는 변경 때 증감만 하므로(PlaceRepository.addReviewRating, addFavoriteCount 등) 직접 수정한 데이터나 컬럼 추가 직후의 값은
+ * 이 작업으로 맞춥니다. 비교는 GROUP BY 집계 쿼리로 하고, 고칠 때는 원본을 읽는 시점의 값으로 UPDATE 한 문장에 다시 계산하므로
+ * 비교와 수정 사이에 생긴 변경도 잃지 않습니다. 서버 시작 시와 매일(기본 04:30) 실행합니다.
+ * 엔티티 수정(설명 변경 등)은 Place의 @DynamicUpdate로 바뀐 컬럼만 쓰므로 카운터를 덮어쓰지 않으며, 이 작업에 기대지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceStatsReconciler {
+
+    private static final int BATCH_SIZE = 500;
+    // MySQL의 소수 나눗셈은 소수점 아래 4자리까지라 평균은 오차를 허용해 비교합니다.
+    private static final double AVERAGE_TOLERANCE = 1e-3;
+
+    private final PlaceRepository placeRepository;
+    private final ReviewRepository reviewRepository;
+    private final FavoriteRepository favoriteRepository;
+    private final EditRequestRepository editRequestRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 장소 카탈로그 등이 적재된 뒤 실행해 보정한 장소가 변경 이벤트로 반영되게 합니다.
+    @Order(200)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    // 보정한 장소 수를 반환합니다. 실패한 묶음은 건너뛰고 다음 실행에서 다시 찾습니다.
+    @Scheduled(cron = "${place.stats.reconcile-cron:0 30 4 * * *}")
+    public synchronized int reconcile() {
+        List<Long> drifted = findDriftedPlaceIds();
+        int fixed = 0;
+        for (int from = 0; from < drifted.size(); from += BATCH_SIZE) {
+            List<Long> batch = drifted.subList(from, Math.min(from + BATCH_SIZE, drifted.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    placeRepository.recomputeStats(batch);
+                    placeRepository.findAllById(batch)
+                            .forEach(place -> eventPublisher.publishEvent(PlaceChangedEvent.updated(place)));
+                });
+                fixed += batch.size();
+            } catch (RuntimeException e) {
+                log.warn("장소 통계 보정 실패, 다음 실행에서 다시 시도합니다. 장소 {}개: {}", batch.size(), e.getMessage());
+            }
+        }
+        if (fixed > 0) {
+            log.info("장소 통계 보정 완료: 장소 {}개", fixed);
+        }
+        return fixed;
+    }
+
+    // 저장된 통계가 원본 테이블 집계와 다른 장소 id
+    List<Long> findDriftedPlaceIds() {
+        Map<Long, long[]> reviews = new HashMap<>();
+        for (Object[] row : reviewRepository.sumRatingsByPlace()) {
+            reviews.put((Long) row[0], new long[]{((Number) row[1]).longValue(), ((Number) row[2]).longValue()});
+        }
+        Map<Long, Long> favorites = toCounts(favoriteRepository.countFavoritesByPlace());
+        Map<Long, Long> pendingEdits = toCounts(editRequestRepository.countByPlaceAndStatus(RequestStatus.PENDING));
+
+        List<Long> drifted = new ArrayList<>();
+        for (Object[] row : placeRepository.findAllStatsRows()) {
+            Long placeId = (Long) row[0];
+            long reviewCount = ((Number) row[1]).longValue();
+            long ratingSum = ((Number) row[2]).longValue();
+            double averageRating = ((Number) row[3]).doubleValue();
+            long favoriteCount = ((Number) row[4]).longValue();
+            long pendingEditCount = ((Number) row[5]).longValue();
+
+            long[] expected = reviews.getOrDefault(placeId, new long[2]);
+            double expectedAverage = expected[0] == 0 ? 0.0 : (double) expected[1] / expected[0];
+            if (reviewCount != expected[0] || ratingSum != expected[1]
+                    || Math.abs(averageRating - expectedAverage) > AVERAGE_TOLERANCE
+                    || favoriteCount != favorites.getOrDefault(placeId, 0L)
+                    || pendingEditCount != pendingEdits.getOrDefault(placeId, 0L)) {
+                drifted.add(placeId);
+            }
+        }
+        return drifted;
+    }
+
+    private static Map<Long, Long> toCounts(List<Object[]> rows) {
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+}
@@ -1,5 +1,6 @@
 package com.smoking_map.smoking_map.service;
 
+import com.smoking_map.smoking_map.config.auth.CurrentUser;
 import com.smoking_map.smoking_map.config.auth.dto.SessionUser;
 import com.smoking_map.smoking_map.domain.place.Place;
 import com.smoking_map.smoking_map.domain.place.PlaceRepository;
@@ -9,7 +10,6 @@ import com.smoking_map.smoking_map.domain.user.Role;
 import com.smoking_map.smoking_map.domain.user.User;
 import com.smoking_map.smoking_map.domain.user.UserRepository;
 import com.smoking_map.smoking_map.web.dto.ReportRequestDto;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,7 +21,7 @@ public class ReportService {
     private final ReportRepository reportRepository;
     private final PlaceRepository placeRepository;
     private final UserRepository userRepository;
-    private final HttpSession httpSession;
+    private final CurrentUser currentUser;
 
     @Transactional
     public void submitReport(Long placeId, ReportRequestDto requestDto) {
@@ -29,12 +29,14 @@ public class ReportService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 장소가 없습니다. id=" + placeId));
 
         User user = null;
-        SessionUser sessionUser = (SessionUser) httpSession.getAttribute("user");
-        if (sessionUser != null) {
-            user = userRepository.findByEmail(sessionUser.getEmail()).orElse(null);
-
-            if (user != null && user.getRole() == Role.USER) {
-                boolean alreadyReported = reportRepository.existsByUserIdAndPlaceId(user.getId(), placeId);
+        // --- ▼▼▼ [수정] 세션의 사용자 id와 권한을 그대로 사용 (이메일로 사용자 조회 없음) ▼▼▼ ---
+        // 없어진 사용자의 세션이면 기존처럼 비로그인 신고로 처리합니다.
+        SessionUser sessionUser = currentUser.get();
+        if (sessionUser != null && userRepository.existsById(sessionUser.getId())) {
+            user = userRepository.getReferenceById(sessionUser.getId());
+
+            if (Role.USER.name().equals(sessionUser.getRole())) {
+                boolean alreadyReported = reportRepository.existsByUserIdAndPlaceId(sessionUser.getId(), placeId);
                 if (alreadyReported) {
                     throw new IllegalArgumentException("이미 이 장소에 대해 신고한 내역이 있습니다.");
                 }
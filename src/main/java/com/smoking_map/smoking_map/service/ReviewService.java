@@ -1,14 +1,18 @@
 package com.smoking_map.smoking_map.service;
 
-import com.smoking_map.smoking_map.domain.place.Place;
 import com.smoking_map.smoking_map.domain.place.PlaceRepository;
 import com.smoking_map.smoking_map.domain.review.Review;
 import com.smoking_map.smoking_map.domain.review.ReviewRepository;
 import com.smoking_map.smoking_map.domain.user.User;
 import com.smoking_map.smoking_map.domain.user.UserRepository;
+import com.smoking_map.smoking_map.service.place.PlaceChangedEvent;
+import com.smoking_map.smoking_map.service.place.PlaceTrendTracker;
+import com.smoking_map.smoking_map.web.dto.ReviewPageResponseDto;
 import com.smoking_map.smoking_map.web.dto.ReviewRequestDto;
 import com.smoking_map.smoking_map.web.dto.ReviewResponseDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,78 +22,97 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
+    // 리뷰 커서 페이지 한 번에 반환할 최대 개수
+    public static final int MAX_REVIEW_PAGE_SIZE = 50;
 
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
     private final PlaceRepository placeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlaceTrendTracker placeTrendTracker;
 
     @Transactional
-    public Long createReview(String userEmail, Long placeId, ReviewRequestDto requestDto) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        Place place = placeRepository.findById(placeId)
-                .orElseThrow(() -> new IllegalArgumentException("Place not found"));
+    // --- ▼▼▼ [수정] 세션의 사용자 id를 받아 참조만 연결 (이메일로 사용자 조회 없음) ▼▼▼ ---
+    public Long createReview(Long userId, Long placeId, ReviewRequestDto requestDto) {
+        // 탈퇴 등으로 없어진 사용자의 세션이면 외래 키 오류(500) 대신 기존처럼 잘못된 요청으로 응답합니다.
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("User not found");
+        }
+        User user = userRepository.getReferenceById(userId);
+
+        // --- ▼▼▼ [수정] 통계를 먼저 증감해 장소 행을 잠근 뒤 리뷰를 저장 (없는 장소면 갱신된 행이 0개) ▼▼▼ ---
+        // 리뷰 INSERT가 먼저면 외래 키 확인으로 장소 행에 공유 잠금이 걸려, 동시 작성 시 서로의 UPDATE를 기다리다 교착될 수 있습니다.
+        if (placeRepository.addReviewRating(placeId, requestDto.getRating()) == 0) {
+            throw new IllegalArgumentException("Place not found");
+        }
 
         Review review = Review.builder()
                 .user(user)
-                .place(place)
+                .place(placeRepository.getReferenceById(placeId))
                 .rating(requestDto.getRating())
                 .comment(requestDto.getComment())
                 .build();
 
         reviewRepository.save(review);
-        updatePlaceReviewStats(place);
+        publishReviewStatsChanged(placeId);
+        placeTrendTracker.recordReview(placeId);
 
         return review.getId();
     }
 
     @Transactional
-    public void deleteReview(Long reviewId, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
+    public void deleteReview(Long reviewId, Long userId) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new IllegalArgumentException("Review not found"));
 
-        if (!review.getUser().equals(user)) {
+        // 작성자 프록시의 id는 조회 없이 읽힙니다.
+        if (!review.getUser().getId().equals(userId)) {
             throw new IllegalStateException("Not authorized to delete this review");
         }
 
-        Place place = review.getPlace();
+        Long placeId = review.getPlace().getId();
         reviewRepository.delete(review);
-        updatePlaceReviewStats(place);
+        placeRepository.removeReviewRating(placeId, review.getRating());
+        publishReviewStatsChanged(placeId);
     }
 
-    // --- ▼▼▼ [추가] 특정 장소의 리뷰 목록을 가져오는 메서드 ▼▼▼ ---
+    // --- ▼▼▼ [수정] 특정 장소의 리뷰 목록: 작성자까지 조인한 쿼리 한 번으로 조회 (리뷰별 작성자 지연 로딩 없음) ▼▼▼ ---
+    // 기존 API와 같은 작성순(오래된 리뷰부터)으로 반환합니다. 최신순 페이지는 getReviewPage를 사용합니다.
     @Transactional(readOnly = true)
     public List<ReviewResponseDto> getReviewsForPlace(Long placeId, String userEmail) {
-        Place place = placeRepository.findById(placeId)
-                .orElseThrow(() -> new IllegalArgumentException("Place not found"));
-
-        List<Review> reviews = reviewRepository.findByPlace(place);
-
-        return reviews.stream()
-                .map(review -> new ReviewResponseDto(
-                        review,
-                        userEmail != null && review.getUser().getEmail().equals(userEmail)
-                ))
+        List<Object[]> rows = reviewRepository.findAllReviewRowsByPlaceId(placeId);
+        if (rows.isEmpty() && !placeRepository.existsById(placeId)) {
+            throw new IllegalArgumentException("Place not found");
+        }
+        return rows.stream()
+                .map(row -> ReviewResponseDto.fromRow(row, userEmail))
                 .collect(Collectors.toList());
     }
 
-    // This is a helper method to update review statistics
-    private void updatePlaceReviewStats(Place place) {
-        // --- ▼▼▼ [수정] 분리된 쿼리를 사용하여 통계 업데이트 ▼▼▼ ---
-
-        // 1. 평균 평점 조회
-        Double averageRating = reviewRepository.findAverageRatingByPlace(place);
+    // --- ▼▼▼ [추가] 리뷰 커서 페이지: id < after 인 리뷰를 최신순으로 최대 limit개 ▼▼▼ ---
+    // 인덱스(place_id, id)에서 커서 위치부터 limit + 1행만 읽으므로 리뷰가 많은 장소도 페이지마다 비용이 같습니다.
+    @Transactional(readOnly = true)
+    public ReviewPageResponseDto getReviewPage(Long placeId, Long after, int limit, String userEmail) {
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_REVIEW_PAGE_SIZE));
+        long cursor = after != null ? after : Long.MAX_VALUE;
+        List<Object[]> rows = reviewRepository.findReviewRowsByPlaceId(placeId, cursor, PageRequest.of(0, cappedLimit + 1));
+        if (rows.isEmpty() && after == null && !placeRepository.existsById(placeId)) {
+            throw new IllegalArgumentException("Place not found");
+        }
 
-        // 2. 리뷰 수 조회
-        Long reviewCount = reviewRepository.countByPlace(place);
+        boolean hasMore = rows.size() > cappedLimit;
+        List<ReviewResponseDto> reviews = rows.stream()
+                .limit(cappedLimit)
+                .map(row -> ReviewResponseDto.fromRow(row, userEmail))
+                .collect(Collectors.toList());
+        Long nextCursor = hasMore ? reviews.get(reviews.size() - 1).getId() : null;
+        return new ReviewPageResponseDto(reviews, nextCursor);
+    }
 
-        // 3. Place 엔티티 업데이트 (null일 경우 기본값 0으로 처리)
-        place.updateReviewStats(
-                averageRating != null ? averageRating : 0.0,
-                reviewCount != null ? reviewCount.intValue() : 0
-        );
-        // --- ▲▲▲ [수정] 분리된 쿼리를 사용하여 통계 업데이트 ▲▲▲ ---
+    // --- ▼▼▼ [수정] 전체 리뷰를 다시 집계하지 않고 증감된 통계만 알림 (증감은 PlaceRepository의 UPDATE 한 문장) ▼▼▼ ---
+    // 평점/리뷰 수가 바뀌었으므로 장소 카탈로그 등 메모리 구조에 알립니다. 통계 UPDATE 후라 다시 읽은 최신 엔티티를 씁니다.
+    private void publishReviewStatsChanged(Long placeId) {
+        placeRepository.findById(placeId)
+                .ifPresent(place -> eventPublisher.publishEvent(PlaceChangedEvent.updated(place)));
     }
-}
\ No newline at end of file
+}
@@ -2,13 +2,10 @@
 
 package com.smoking_map.smoking_map.service;
 
-import com.smoking_map.smoking_map.config.auth.dto.SessionUser;
+import com.smoking_map.smoking_map.config.auth.CurrentUser;
 import com.smoking_map.smoking_map.domain.activity_log.UserActivityLog;
 import com.smoking_map.smoking_map.domain.activity_log.UserActivityLogRepository;
-import com.smoking_map.smoking_map.domain.user.User;
-import com.smoking_map.smoking_map.domain.user.UserRepository;
 import com.smoking_map.smoking_map.web.dto.UserActivityLogRequestDto;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,22 +17,15 @@ import java.util.UUID;
 public class UserActivityLogService {
 
     private final UserActivityLogRepository userActivityLogRepository;
-    private final UserRepository userRepository;
-    private final HttpSession httpSession;
+    private final CurrentUser currentUser;
 
     @Transactional
     public void logActivity(UserActivityLogRequestDto requestDto) {
-        SessionUser sessionUser = (SessionUser) httpSession.getAttribute("user");
-        Long userId = null;
+        // --- ▼▼▼ [수정] 세션에 저장된 사용자 id 사용 (비로그인 시 null) ▼▼▼ ---
+        Long userId = currentUser.getId().orElse(null);
 
-        if (sessionUser != null) {
-            // 실제 User 엔티티를 조회하여 ID를 가져옵니다.
-            userId = userRepository.findByEmail(sessionUser.getEmail())
-                    .map(User::getId)
-                    .orElse(null);
-        }
-
-        String sessionId = httpSession.getId();
+        // --- ▼▼▼ [수정] 서버 세션 id 대신 방문자 쿠키 id (비로그인 방문자에게 세션을 만들지 않음) ▼▼▼ ---
+        String sessionId = currentUser.getVisitorId();
 
         UserActivityLog log = UserActivityLog.builder()
                 .latitude(requestDto.getLatitude())
@@ -4,13 +4,12 @@ import com.smoking_map.smoking_map.domain.announcement.Announcement;
 import com.smoking_map.smoking_map.domain.activity_log.UserActivityLog;
 import com.smoking_map.smoking_map.domain.activity_log.UserActivityLogRepository;
 import com.smoking_map.smoking_map.domain.announcement.AnnouncementRepository;
-import com.smoking_map.smoking_map.domain.edit_request.EditRequest;
 import com.smoking_map.smoking_map.domain.edit_request.EditRequestRepository;
 import com.smoking_map.smoking_map.domain.edit_request.RequestStatus;
-import com.smoking_map.smoking_map.domain.favorite.FavoriteRepository;
 import com.smoking_map.smoking_map.domain.place.ImageInfo;
 import com.smoking_map.smoking_map.domain.place.Place;
 import com.smoking_map.smoking_map.domain.place.PlaceRepository;
+import com.smoking_map.smoking_map.domain.place.PlaceQueryRepository;
 import com.smoking_map.smoking_map.domain.report.Report;
 import com.smoking_map.smoking_map.domain.report.ReportRepository;
 import com.smoking_map.smoking_map.domain.report.ReportType;
@@ -19,15 +18,21 @@ import com.smoking_map.smoking_map.domain.review.ReviewRepository;
 import com.smoking_map.smoking_map.domain.user.Role;
 import com.smoking_map.smoking_map.domain.user.User;
 import com.smoking_map.smoking_map.domain.user.UserRepository;
+import com.smoking_map.smoking_map.service.AnnouncementChangedEvent;
+import com.smoking_map.smoking_map.service.place.PlaceChangedEvent;
+import com.smoking_map.smoking_map.service.place.PlaceStreamWriter;
+import com.smoking_map.smoking_map.service.place.PlaceViewTracker;
 import com.smoking_map.smoking_map.service.s3.S3Uploader;
 import com.smoking_map.smoking_map.web.dto.admin.AdminPlaceDetailDto;
 import com.smoking_map.smoking_map.web.dto.admin.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
@@ -49,14 +54,17 @@ import java.util.function.Function;
 @Transactional(readOnly = true)
 public class AdminService {
     private final PlaceRepository placeRepository;
+    private final PlaceQueryRepository placeQueryRepository;
     private final UserRepository userRepository;
     private final ReportRepository reportRepository;
     private final EditRequestRepository editRequestRepository;
     private final S3Uploader s3Uploader;
     private final AnnouncementRepository announcementRepository; // --- ▼▼▼ [추가] 의존성 주입 ▼▼▼ ---
-    private final FavoriteRepository favoriteRepository; // --- ▼▼▼ [추가] 의존성 주입 ▼▼▼ ---
     private final ReviewRepository reviewRepository; // --- ▼▼▼ [추가] 의존성 주입 ▼▼▼ ---
     private final UserActivityLogRepository userActivityLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlaceStreamWriter placeStreamWriter;
+    private final PlaceViewTracker placeViewTracker;
 
 
 
@@ -123,37 +131,17 @@ public class AdminService {
         // --- ▼▼▼ [수정] findById를 새로 만든 JOIN FETCH 쿼리 메서드로 변경 ▼▼▼ ---
         Place place = placeRepository.findByIdWithEditRequests(placeId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 장소가 없습니다. id=" + placeId));
-        return new AdminPlaceDetailDto(place);
+        return new AdminPlaceDetailDto(place, placeViewTracker.findUniqueViewers(placeId));
     }
 
+    // --- ▼▼▼ [수정] 장소에 저장된 즐겨찾기/리뷰/대기 중인 수정 제안 카운터를 조회 한 번으로 읽음 (GROUP BY 집계 없음) ▼▼▼ ---
+    @Transactional(readOnly = true)
     public List<AdminPlaceDto> getAllPlaces(String searchTerm) {
-        List<Place> places;
-        if (StringUtils.hasText(searchTerm)) {
-            places = placeRepository.findByRoadAddressContaining(searchTerm);
-        } else {
-            places = placeRepository.findAll();
-        }
-
-        // --- ▼▼▼ [수정] 즐겨찾기 수와 수정 요청 수를 각각 조회하여 Map으로 변환 ▼▼▼ ---
-        Map<Long, Long> favoriteCounts = favoriteRepository.countFavoritesByPlace().stream()
-                .collect(Collectors.toMap(result -> (Long) result[0], result -> (Long) result[1]));
-
-        // --- ▼▼▼ [추가] 리뷰 수 조회 로직 ▼▼▼ ---
-        Map<Long, Long> reviewCounts = reviewRepository.countReviewsByPlace().stream()
-                .collect(Collectors.toMap(result -> (Long) result[0], result -> (Long) result[1]));
-
-        Map<Long, Long> pendingCounts = editRequestRepository.findAllByStatus(RequestStatus.PENDING)
-                .stream()
-                .collect(Collectors.groupingBy(request -> request.getPlace().getId(), Collectors.counting()));
-
-
-        return places.stream()
-                .map(place -> new AdminPlaceDto(
-                        place,
-                        favoriteCounts.getOrDefault(place.getId(), 0L).intValue(),
-                        reviewCounts.getOrDefault(place.getId(), 0L).intValue(), // --- [추가] DTO에 리뷰 수 전달
-                        pendingCounts.getOrDefault(place.getId(), 0L).intValue()
-                ))
+        List<Object[]> rows = StringUtils.hasText(searchTerm)
+                ? placeQueryRepository.findAdminPlaceRowsByRoadAddress(searchTerm)
+                : placeQueryRepository.findAdminPlaceRows();
+        return rows.stream()
+                .map(AdminPlaceDto::fromRow)
                 .collect(Collectors.toList());
     }
 
@@ -164,9 +152,13 @@ public class AdminService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 장소가 없습니다. id=" + placeId));
 
         place.updateDescription(requestDto.getDescription());
+        eventPublisher.publishEvent(PlaceChangedEvent.updated(place));
 
-        List<EditRequest> pendingRequests = editRequestRepository.findAllByPlaceAndStatus(place, RequestStatus.PENDING);
-        pendingRequests.forEach(request -> request.updateStatus(RequestStatus.REVIEWED));
+        // --- ▼▼▼ [수정] 대기 중인 수정 제안을 한 문장으로 검토 완료 처리하고, 바뀐 수만큼 대기 중 카운터를 차감 ▼▼▼ ---
+        int reviewed = editRequestRepository.updateStatusByPlaceId(placeId, RequestStatus.PENDING, RequestStatus.REVIEWED);
+        if (reviewed > 0) {
+            placeRepository.addPendingEditCount(placeId, -reviewed);
+        }
     }
 
     @CacheEvict(value = {"allPlaces", "searchResults", "places"}, allEntries = true)
@@ -178,6 +170,7 @@ public class AdminService {
         place.getImageUrls().forEach(s3Uploader::delete);
 
         placeRepository.delete(place);
+        eventPublisher.publishEvent(PlaceChangedEvent.deleted(place));
     }
 
     public List<AdminImageDto> getPlaceImages(Long placeId) {
@@ -199,6 +192,8 @@ public class AdminService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 이미지를 찾을 수 없습니다."));
 
         place.getImageInfos().remove(imageToRemove);
+        // 사진 목록이 바뀌었으므로 카탈로그/필터 색인 등 메모리 구조에 알립니다.
+        eventPublisher.publishEvent(PlaceChangedEvent.updated(place));
 
         s3Uploader.delete(imageUrl);
     }
@@ -218,6 +213,8 @@ public class AdminService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 이미지를 찾을 수 없습니다. id=" + imageInfoId));
 
         newRepresentativeImage.setRepresentative(true);
+        // 대표 사진이 목록 맨 앞으로 오므로 카탈로그도 다시 만듭니다.
+        eventPublisher.publishEvent(PlaceChangedEvent.updated(place));
     }
 
     public List<AdminReportDto> getAllReports() {
@@ -327,7 +324,9 @@ public class AdminService {
     @Transactional
     public Long createAnnouncement(AnnouncementSaveRequestDto requestDto) {
         Announcement announcement = requestDto.toEntity();
-        return announcementRepository.save(announcement).getId();
+        Long id = announcementRepository.save(announcement).getId();
+        eventPublisher.publishEvent(new AnnouncementChangedEvent(id));
+        return id;
     }
 
     @Transactional
@@ -342,6 +341,7 @@ public class AdminService {
                 requestDto.getStartDate(),
                 requestDto.getEndDate()
         );
+        eventPublisher.publishEvent(new AnnouncementChangedEvent(announcementId));
     }
 
     // --- ▼▼▼ [추가] 공지 활성 상태 토글 메서드 ▼▼▼ ---
@@ -350,6 +350,7 @@ public class AdminService {
         Announcement announcement = announcementRepository.findById(announcementId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 공지가 없습니다. id=" + announcementId));
         announcement.toggleActive();
+        eventPublisher.publishEvent(new AnnouncementChangedEvent(announcementId));
     }
     // --- ▲▲▲ [추가] 공지 활성 상태 토글 메서드 ▲▲▲ ---
 
@@ -357,6 +358,7 @@ public class AdminService {
     @Transactional
     public void deleteAnnouncement(Long announcementId) {
         announcementRepository.deleteById(announcementId);
+        eventPublisher.publishEvent(new AnnouncementChangedEvent(announcementId));
     }
     // --- ▲▲▲ [추가] 공지 관리 기능 ▲▲▲ ---
 
@@ -494,22 +496,13 @@ public class AdminService {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new IllegalArgumentException("Review not found"));
 
-        Place place = review.getPlace();
+        Long placeId = review.getPlace().getId();
         reviewRepository.delete(review);
 
-        // --- ▼▼▼ [수정] 새로운 Repository 메서드를 사용하도록 변경 ▼▼▼ ---
-        // 1. 평균 평점 조회
-        Double averageRating = reviewRepository.findAverageRatingByPlace(place);
-
-        // 2. 리뷰 수 조회
-        Long reviewCount = reviewRepository.countByPlace(place);
-
-        // 3. Place 엔티티 업데이트 (null일 경우 기본값 0으로 처리)
-        place.updateReviewStats(
-                averageRating != null ? averageRating : 0.0,
-                reviewCount != null ? reviewCount.intValue() : 0
-        );
-        // --- ▲▲▲ [수정] 새로운 Repository 메서드를 사용하도록 변경 ▲▲▲ ---
+        // --- ▼▼▼ [수정] 전체 리뷰 재집계 대신 평점 합계/리뷰 수를 UPDATE 한 문장으로 차감 ▼▼▼ ---
+        placeRepository.removeReviewRating(placeId, review.getRating());
+        placeRepository.findById(placeId)
+                .ifPresent(place -> eventPublisher.publishEvent(PlaceChangedEvent.updated(place)));
     }
 
     public List<AdminActivityLogDto> getActivityLogs() {
@@ -558,4 +551,9 @@ public class AdminService {
                 .map(log -> new HeatmapDto(log.getLatitude(), log.getLongitude()))
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    // --- ▼▼▼ [추가] 전체 장소 내보내기: DB 커서로 읽으며 바로 응답에 씁니다 (목록을 메모리에 올리지 않음) ▼▼▼ ---
+    public StreamingResponseBody exportPlaces() {
+        return placeStreamWriter::writeAdminPlaces;
+    }
+}
@@ -0,0 +1,39 @@
+package com.smoking_map.smoking_map.service.place;
+
+/**
+ * 위경도 거리 계산 유틸리티.
+ */
+public final class GeoUtils {
+
+    public static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    public static final double METERS_PER_DEGREE_LAT = EARTH_RADIUS_METERS * Math.PI / 180.0;
+
+    private GeoUtils() {
+    }
+
+    // 두 좌표 사이의 대원 거리(haversine, 미터)
+    public static double haversineMeters(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double sinLat = Math.sin(dLat / 2);
+        double sinLng = Math.sin(dLng / 2);
+        double a = sinLat * sinLat + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLng * sinLng;
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // 거리(미터)를 위도 폭(도)으로 변환
+    public static double metersToLatDegrees(double meters) {
+        return meters / METERS_PER_DEGREE_LAT;
+    }
+
+    // 중심 위도 lat에서 반경 meters 원을 감싸는 경도 폭(도). 극점을 포함하면 360을 반환합니다.
+    public static double metersToLngDegrees(double lat, double meters) {
+        double angular = meters / EARTH_RADIUS_METERS;
+        double cos = Math.cos(Math.toRadians(lat));
+        if (Math.abs(lat) + Math.toDegrees(angular) >= 90.0 || cos < 1e-9) {
+            return 360.0;
+        }
+        double s = Math.sin(Math.min(angular, Math.PI / 2)) / cos;
+        return s >= 1.0 ? 360.0 : Math.toDegrees(Math.asin(s));
+    }
+}
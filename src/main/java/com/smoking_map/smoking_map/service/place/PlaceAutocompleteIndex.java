@@ -0,0 +1,392 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.smoking_map.smoking_map.web.dto.PlaceResponseDto;
+import com.smoking_map.smoking_map.web.dto.PlaceSuggestionDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 장소 검색어 자동완성 (접두어 + 한글 초성).
+ * <p>
+ * 도로명/지번 주소와 설명의 단어(시도·시군구 이름 포함)마다 그 단어가 들어 있는 장소 수를 세고,
+ * 단어를 초성 키(한글 음절은 초성으로, 나머지 글자는 그대로) 순으로 정렬한 배열에 보관합니다.
+ * 검색어의 초성 키로 이진 탐색해 범위를 찾은 뒤 글자 단위로 확인하므로 "ㄱㄴ", "강ㄴ", "강남" 모두
+ * "강남구"와 일치합니다. 입력 중인 마지막 글자는 "가"(강), "간"(가나...)처럼 조합이 끝나지 않은 상태도 허용합니다.
+ * 장소가 바뀌면 그 장소의 단어만 장소 수를 고치고, 새로 생기거나 사라진 단어가 있을 때만 정렬 배열을 한 번 병합해
+ * 새 스냅샷으로 교체하므로(copy-on-write) 조회는 락 없이 수행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceAutocompleteIndex {
+
+    public static final int MAX_RESULTS = 20;
+
+    private static final char HANGUL_BASE = 0xAC00;
+    private static final char HANGUL_LAST = 0xD7A3;
+    private static final int JUNG_COUNT = 21;
+    private static final int JONG_COUNT = 28;
+    // 초성 19자 / 종성 27자 (호환용 자모, 종성 0번은 받침 없음)
+    private static final String CHO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JONG = "\0ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    private final PlaceCatalog placeCatalog;
+
+    // 아래 두 맵은 this 락 안에서만 변경합니다.
+    private final Map<String, Integer> placeCounts = new HashMap<>();
+    private final Map<Long, Set<String>> termsByPlaceId = new HashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean loaded = false;
+
+    // 공유 카탈로그 적재(PlaceCatalog.loadAll)가 끝난 뒤 실행되도록 순서를 뒤로 둡니다.
+    @Order(100)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void loadAll() {
+        placeCounts.clear();
+        termsByPlaceId.clear();
+        List<PlaceResponseDto> places = placeCatalog.findAll();
+        for (PlaceResponseDto place : places) {
+            addUnlocked(place);
+        }
+        snapshot = Snapshot.build(placeCounts);
+        loaded = true;
+        log.info("장소 자동완성 색인 구성 완료: 장소 {}개, 단어 {}개", places.size(), placeCounts.size());
+    }
+
+    // 카탈로그가 먼저 갱신된 뒤(@Order(0)) 카탈로그의 최신 DTO로 색인합니다.
+    @Order(10)
+    @TransactionalEventListener
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        PlaceResponseDto place = event.getType() == PlaceChangedEvent.Type.DELETED
+                ? null : placeCatalog.find(event.getPlaceId());
+        if (place == null) {
+            remove(event.getPlaceId());
+        } else {
+            put(place);
+        }
+    }
+
+    public synchronized void put(PlaceResponseDto place) {
+        Set<String> changed = new HashSet<>();
+        Set<String> removed = removeUnlocked(place.getId());
+        if (removed != null) {
+            changed.addAll(removed);
+        }
+        changed.addAll(addUnlocked(place));
+        snapshot = snapshot.apply(changed, placeCounts);
+    }
+
+    public synchronized void remove(long placeId) {
+        Set<String> removed = removeUnlocked(placeId);
+        if (removed != null) {
+            snapshot = snapshot.apply(removed, placeCounts);
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 검색어의 마지막 단어를 완성한 검색어를 장소 수가 많은 순으로 최대 limit개 반환합니다.
+     * 앞 단어들은 그대로 두고 마지막 단어만 바꿉니다 ("서울 ㄱㄴ" → "서울 강남구").
+     * 장소 수가 같으면 짧은 단어, 그다음 가나다순입니다.
+     */
+    public List<PlaceSuggestionDto> suggest(String query, int limit) {
+        String normalized = PlaceSearchIndex.normalize(query);
+        if (normalized.isEmpty()) {
+            return new ArrayList<>();
+        }
+        int lastSpace = normalized.lastIndexOf(' ');
+        String head = normalized.substring(0, lastSpace + 1);
+        String prefix = normalized.substring(lastSpace + 1);
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_RESULTS));
+
+        Snapshot s = snapshot;
+        String key = choseongKey(prefix);
+        // 점수가 가장 낮은 결과가 맨 위에 오는 크기 limit의 힙 (원소는 snapshot 배열 위치)
+        Comparator<Integer> rank = (a, b) -> s.compareRank(b, a);
+        PriorityQueue<Integer> top = new PriorityQueue<>(cappedLimit + 1, rank);
+        for (int i = s.lowerBound(key); i < s.keys.length && s.keys[i].startsWith(key); i++) {
+            if (!matches(s.terms[i], prefix)) {
+                continue;
+            }
+            if (top.size() < cappedLimit) {
+                top.add(i);
+            } else if (s.compareRank(i, top.peek()) < 0) {
+                top.poll();
+                top.add(i);
+            }
+        }
+        PlaceSuggestionDto[] result = new PlaceSuggestionDto[top.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            int pos = top.poll();
+            result[i] = new PlaceSuggestionDto(head + s.terms[pos], s.counts[pos]);
+        }
+        return new ArrayList<>(Arrays.asList(result));
+    }
+
+    private Set<String> addUnlocked(PlaceResponseDto place) {
+        Set<String> terms = new LinkedHashSet<>();
+        collectTerms(place.getRoadAddress(), terms);
+        collectTerms(place.getOriginalAddress(), terms);
+        collectTerms(place.getDescription(), terms);
+        for (String term : terms) {
+            placeCounts.merge(term, 1, Integer::sum);
+        }
+        termsByPlaceId.put(place.getId(), terms);
+        return terms;
+    }
+
+    // 색인에 없던 장소면 null
+    private Set<String> removeUnlocked(long placeId) {
+        Set<String> terms = termsByPlaceId.remove(placeId);
+        if (terms == null) {
+            return null;
+        }
+        for (String term : terms) {
+            placeCounts.computeIfPresent(term, (t, count) -> count > 1 ? count - 1 : null);
+        }
+        return terms;
+    }
+
+    // 한 글자 단어와 숫자로만 된 단어(번지, 건물 번호)는 자동완성에서 제외합니다.
+    private static void collectTerms(String text, Set<String> terms) {
+        String normalized = PlaceSearchIndex.normalize(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        for (String token : normalized.split(" ")) {
+            if (token.length() > 1 && !isNumber(token)) {
+                terms.add(token);
+            }
+        }
+    }
+
+    private static boolean isNumber(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (!Character.isDigit(token.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 한글 음절은 초성 자모로, 나머지 글자는 그대로 둔 문자열
+    static String choseongKey(String text) {
+        char[] key = new char[text.length()];
+        for (int i = 0; i < key.length; i++) {
+            char c = text.charAt(i);
+            key[i] = isSyllable(c) ? CHO.charAt(cho(c)) : c;
+        }
+        return new String(key);
+    }
+
+    /**
+     * term이 prefix로 시작하는지 글자 단위로 확인합니다.
+     * 초성 자모는 같은 초성의 음절과, 완성된 음절은 같은 음절과 일치합니다. 마지막 글자는 입력 중일 수 있으므로
+     * 받침이 없으면 같은 초성+중성의 음절과("가" → "강"), 받침이 있으면 받침 없는 음절 + 그 받침을 초성으로 하는
+     * 다음 음절과도("간" → "가나") 일치합니다.
+     */
+    static boolean matches(String term, String prefix) {
+        int n = prefix.length();
+        if (term.length() < n) {
+            return false;
+        }
+        for (int i = 0; i < n - 1; i++) {
+            if (!matchesChar(term.charAt(i), prefix.charAt(i))) {
+                return false;
+            }
+        }
+        char t = term.charAt(n - 1);
+        char q = prefix.charAt(n - 1);
+        if (matchesChar(t, q)) {
+            return true;
+        }
+        if (!isSyllable(t) || !isSyllable(q) || choJung(t) != choJung(q)) {
+            return false;
+        }
+        if (jong(q) == 0) {
+            return true;
+        }
+        if (jong(t) != 0) {
+            return false;
+        }
+        // 겹받침(ㄳ, ㄺ 등)은 CHO에 없으므로 다음 음절로 넘어가지 않습니다.
+        int carried = CHO.indexOf(JONG.charAt(jong(q)));
+        return carried >= 0 && term.length() > n && isSyllable(term.charAt(n)) && cho(term.charAt(n)) == carried;
+    }
+
+    private static boolean matchesChar(char t, char q) {
+        if (t == q) {
+            return true;
+        }
+        int choIndex = CHO.indexOf(q);
+        return choIndex >= 0 && isSyllable(t) && cho(t) == choIndex;
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= HANGUL_BASE && c <= HANGUL_LAST;
+    }
+
+    private static int cho(char syllable) {
+        return (syllable - HANGUL_BASE) / (JUNG_COUNT * JONG_COUNT);
+    }
+
+    private static int choJung(char syllable) {
+        return (syllable - HANGUL_BASE) / JONG_COUNT;
+    }
+
+    private static int jong(char syllable) {
+        return (syllable - HANGUL_BASE) % JONG_COUNT;
+    }
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(new String[0], new String[0], new int[0]);
+
+        // 초성 키 → 단어 순으로 정렬
+        final String[] keys;
+        final String[] terms;
+        final int[] counts;
+
+        Snapshot(String[] keys, String[] terms, int[] counts) {
+            this.keys = keys;
+            this.terms = terms;
+            this.counts = counts;
+        }
+
+        static Snapshot build(Map<String, Integer> placeCounts) {
+            String[][] entries = sortedEntries(placeCounts.keySet());
+            int n = entries.length;
+            String[] keys = new String[n];
+            String[] terms = new String[n];
+            int[] counts = new int[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = entries[i][0];
+                terms[i] = entries[i][1];
+                counts[i] = placeCounts.get(terms[i]);
+            }
+            return new Snapshot(keys, terms, counts);
+        }
+
+        /**
+         * changed 단어들의 장소 수를 placeCounts 기준으로 고친 새 스냅샷.
+         * 단어 목록이 그대로면 counts 배열만 복사하고, 새 단어/사라진 단어가 있으면 기존 정렬 배열과 한 번 병합합니다.
+         */
+        Snapshot apply(Set<String> changed, Map<String, Integer> placeCounts) {
+            int[] nextCounts = counts.clone();
+            List<String> added = new ArrayList<>();
+            boolean removedAny = false;
+            for (String term : changed) {
+                int count = placeCounts.getOrDefault(term, 0);
+                int pos = indexOf(choseongKey(term), term);
+                if (pos >= 0) {
+                    nextCounts[pos] = count;
+                    removedAny |= count == 0;
+                } else if (count > 0) {
+                    added.add(term);
+                }
+            }
+            if (added.isEmpty() && !removedAny) {
+                return new Snapshot(keys, terms, nextCounts);
+            }
+            String[][] entries = sortedEntries(added);
+            int capacity = terms.length + entries.length;
+            String[] mergedKeys = new String[capacity];
+            String[] mergedTerms = new String[capacity];
+            int[] mergedCounts = new int[capacity];
+            int n = 0;
+            int j = 0;
+            for (int i = 0; i < terms.length || j < entries.length; ) {
+                if (j < entries.length && (i == terms.length || compare(entries[j][0], entries[j][1], i) < 0)) {
+                    mergedKeys[n] = entries[j][0];
+                    mergedTerms[n] = entries[j][1];
+                    mergedCounts[n++] = placeCounts.get(entries[j++][1]);
+                } else {
+                    if (nextCounts[i] > 0) {
+                        mergedKeys[n] = keys[i];
+                        mergedTerms[n] = terms[i];
+                        mergedCounts[n++] = nextCounts[i];
+                    }
+                    i++;
+                }
+            }
+            return new Snapshot(Arrays.copyOf(mergedKeys, n), Arrays.copyOf(mergedTerms, n), Arrays.copyOf(mergedCounts, n));
+        }
+
+        private static String[][] sortedEntries(Collection<String> terms) {
+            String[][] entries = new String[terms.size()][];
+            int i = 0;
+            for (String term : terms) {
+                entries[i++] = new String[]{choseongKey(term), term};
+            }
+            Arrays.sort(entries, Comparator.<String[], String>comparing(e -> e[0]).thenComparing(e -> e[1]));
+            return entries;
+        }
+
+        private int indexOf(String key, String term) {
+            int lo = 0;
+            int hi = terms.length - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int c = compare(key, term, mid);
+                if (c > 0) {
+                    lo = mid + 1;
+                } else if (c < 0) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        // (key, term)과 pos 위치 항목의 정렬 순서 비교
+        private int compare(String key, String term, int pos) {
+            int c = key.compareTo(keys[pos]);
+            return c != 0 ? c : term.compareTo(terms[pos]);
+        }
+
+        // key 이상인 첫 위치
+        int lowerBound(String key) {
+            int lo = 0;
+            int hi = keys.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        // 장소 수 많은 순 → 짧은 단어 → 가나다순 (a가 앞이면 음수)
+        int compareRank(int a, int b) {
+            int c = Integer.compare(counts[b], counts[a]);
+            if (c != 0) {
+                return c;
+            }
+            c = Integer.compare(terms[a].length(), terms[b].length());
+            return c != 0 ? c : terms[a].compareTo(terms[b]);
+        }
+    }
+}
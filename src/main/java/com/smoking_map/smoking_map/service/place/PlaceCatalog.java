@@ -0,0 +1,242 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smoking_map.smoking_map.domain.place.Place;
+import com.smoking_map.smoking_map.domain.place.PlaceChangeRepository;
+import com.smoking_map.smoking_map.domain.place.PlaceRepository;
+import com.smoking_map.smoking_map.web.dto.PlaceResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 모든 사용자가 공유하는 장소 목록(카탈로그) 스냅샷.
+ * <p>
+ * 장소마다 즐겨찾기 여부가 빠진 {@link PlaceResponseDto}와 그 JSON 바이트를 id 순으로 보관하고,
+ * 전체 목록 JSON 배열도 미리 만들어 둡니다. 장소가 바뀌면 해당 장소만 다시 직렬화한 뒤
+ * 조각을 이어 붙여 새 스냅샷으로 교체(copy-on-write)하므로 조회는 락 없이 수행됩니다.
+ * 사용자별 즐겨찾기 여부는 카탈로그에 넣지 않고 요청마다 즐겨찾기 id 목록으로 덧씌웁니다.
+ * 조건부 요청(If-None-Match)에 쓰는 ETag도 변경 시점에 한 번만 계산해 둡니다 (전체 목록/장소별 MD5).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceCatalog {
+
+    private final PlaceRepository placeRepository;
+    private final PlaceChangeRepository placeChangeRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean loaded = false;
+
+    // 카탈로그를 읽는 다른 색인(검색 색인 등)보다 먼저 적재합니다.
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadAll() {
+        // 버전을 먼저 읽으므로 스냅샷은 항상 이 버전 이상으로 최신입니다.
+        long version = placeChangeRepository.findLatestVersion();
+        List<Place> places = placeRepository.findAllWithImageInfos();
+        int n = places.size();
+        long[] ids = new long[n];
+        PlaceResponseDto[] dtos = new PlaceResponseDto[n];
+        byte[][] jsons = new byte[n][];
+        String[] eTags = new String[n];
+        for (int i = 0; i < n; i++) {
+            PlaceResponseDto dto = new PlaceResponseDto(places.get(i));
+            ids[i] = dto.getId();
+            dtos[i] = dto;
+            jsons[i] = serialize(dto);
+            eTags[i] = DigestUtils.md5DigestAsHex(jsons[i]);
+        }
+        // 중복 제거(DISTINCT) 후 id 순으로 정렬된 결과를 그대로 사용합니다.
+        snapshot = new Snapshot(version, ids, dtos, jsons, eTags);
+        loaded = true;
+        log.info("장소 카탈로그 구성 완료: {}개, {} bytes, 버전 {}", n, snapshot.placesJson.length, version);
+    }
+
+    // 커밋된 변경만 반영하며, 지연 로딩되는 이미지 목록까지 읽기 위해 새 읽기 전용 트랜잭션에서 다시 조회합니다.
+    @Order(0)
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        long version = event.getVersion();
+        if (event.getType() == PlaceChangedEvent.Type.DELETED) {
+            remove(event.getPlaceId(), version);
+            return;
+        }
+        placeRepository.findById(event.getPlaceId())
+                .ifPresentOrElse(place -> put(new PlaceResponseDto(place), version), () -> remove(event.getPlaceId(), version));
+    }
+
+    // 장소를 추가하거나 같은 id의 기존 항목을 교체합니다. version은 이 변경의 카탈로그 버전입니다.
+    public synchronized void put(PlaceResponseDto dto, long version) {
+        Snapshot s = snapshot;
+        long nextVersion = Math.max(s.version, version);
+        long id = dto.getId();
+        byte[] json = serialize(dto);
+        String eTag = DigestUtils.md5DigestAsHex(json);
+        int pos = Arrays.binarySearch(s.ids, id);
+        if (pos >= 0) {
+            PlaceResponseDto[] dtos = s.dtos.clone();
+            byte[][] jsons = s.jsons.clone();
+            String[] eTags = s.eTags.clone();
+            dtos[pos] = dto;
+            jsons[pos] = json;
+            eTags[pos] = eTag;
+            snapshot = new Snapshot(nextVersion, s.ids, dtos, jsons, eTags);
+            return;
+        }
+        int gap = -pos - 1;
+        int n = s.ids.length;
+        long[] ids = new long[n + 1];
+        PlaceResponseDto[] dtos = new PlaceResponseDto[n + 1];
+        byte[][] jsons = new byte[n + 1][];
+        String[] eTags = new String[n + 1];
+        System.arraycopy(s.ids, 0, ids, 0, gap);
+        System.arraycopy(s.dtos, 0, dtos, 0, gap);
+        System.arraycopy(s.jsons, 0, jsons, 0, gap);
+        System.arraycopy(s.eTags, 0, eTags, 0, gap);
+        ids[gap] = id;
+        dtos[gap] = dto;
+        jsons[gap] = json;
+        eTags[gap] = eTag;
+        System.arraycopy(s.ids, gap, ids, gap + 1, n - gap);
+        System.arraycopy(s.dtos, gap, dtos, gap + 1, n - gap);
+        System.arraycopy(s.jsons, gap, jsons, gap + 1, n - gap);
+        System.arraycopy(s.eTags, gap, eTags, gap + 1, n - gap);
+        snapshot = new Snapshot(nextVersion, ids, dtos, jsons, eTags);
+    }
+
+    public synchronized boolean remove(long id, long version) {
+        Snapshot s = snapshot;
+        long nextVersion = Math.max(s.version, version);
+        int pos = Arrays.binarySearch(s.ids, id);
+        if (pos < 0) {
+            if (nextVersion != s.version) {
+                snapshot = new Snapshot(nextVersion, s.ids, s.dtos, s.jsons, s.eTags);
+            }
+            return false;
+        }
+        int n = s.ids.length;
+        long[] ids = new long[n - 1];
+        PlaceResponseDto[] dtos = new PlaceResponseDto[n - 1];
+        byte[][] jsons = new byte[n - 1][];
+        String[] eTags = new String[n - 1];
+        System.arraycopy(s.ids, 0, ids, 0, pos);
+        System.arraycopy(s.dtos, 0, dtos, 0, pos);
+        System.arraycopy(s.jsons, 0, jsons, 0, pos);
+        System.arraycopy(s.eTags, 0, eTags, 0, pos);
+        System.arraycopy(s.ids, pos + 1, ids, pos, n - pos - 1);
+        System.arraycopy(s.dtos, pos + 1, dtos, pos, n - pos - 1);
+        System.arraycopy(s.jsons, pos + 1, jsons, pos, n - pos - 1);
+        System.arraycopy(s.eTags, pos + 1, eTags, pos, n - pos - 1);
+        snapshot = new Snapshot(nextVersion, ids, dtos, jsons, eTags);
+        return true;
+    }
+
+    // 시작 시 DB 적재가 끝났는지 여부 (끝나기 전에는 DB 조회로 대체해야 합니다)
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public int size() {
+        return snapshot.ids.length;
+    }
+
+    // 스냅샷에 반영된 마지막 카탈로그 버전 (델타 동기화 시작점)
+    public long getVersion() {
+        return snapshot.version;
+    }
+
+    // id로 장소를 찾습니다. 없으면 null (즐겨찾기 여부는 항상 false)
+    public PlaceResponseDto find(long id) {
+        Snapshot s = snapshot;
+        int pos = Arrays.binarySearch(s.ids, id);
+        return pos >= 0 ? s.dtos[pos] : null;
+    }
+
+    // 전체 목록 JSON의 ETag
+    public String getETag() {
+        return snapshot.eTag;
+    }
+
+    // 장소 하나의 ETag. 없으면 null
+    public String findETag(long id) {
+        Snapshot s = snapshot;
+        int pos = Arrays.binarySearch(s.ids, id);
+        return pos >= 0 ? s.eTags[pos] : null;
+    }
+
+    // id 오름차순 전체 목록 (읽기 전용)
+    public List<PlaceResponseDto> findAll() {
+        return Collections.unmodifiableList(Arrays.asList(snapshot.dtos));
+    }
+
+    // 미리 직렬화된 전체 목록 JSON 배열. 호출자는 내용을 수정하면 안 됩니다.
+    public byte[] getPlacesJson() {
+        return snapshot.placesJson;
+    }
+
+    private byte[] serialize(PlaceResponseDto dto) {
+        try {
+            return objectMapper.writeValueAsBytes(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("장소 카탈로그 직렬화에 실패했습니다. id=" + dto.getId(), e);
+        }
+    }
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(0, new long[0], new PlaceResponseDto[0], new byte[0][], new String[0]);
+
+        final long version;
+        final long[] ids;
+        final PlaceResponseDto[] dtos;
+        final byte[][] jsons;
+        final String[] eTags;
+        final byte[] placesJson;
+        final String eTag;
+
+        Snapshot(long version, long[] ids, PlaceResponseDto[] dtos, byte[][] jsons, String[] eTags) {
+            this.version = version;
+            this.ids = ids;
+            this.dtos = dtos;
+            this.jsons = jsons;
+            this.eTags = eTags;
+            this.placesJson = join(jsons);
+            this.eTag = DigestUtils.md5DigestAsHex(placesJson);
+        }
+
+        // 장소별 JSON 조각을 이어 붙여 "[a,b,...]" 배열을 만듭니다.
+        private static byte[] join(byte[][] parts) {
+            int length = 2 + Math.max(0, parts.length - 1);
+            for (byte[] part : parts) {
+                length += part.length;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length);
+            out.write('[');
+            for (int i = 0; i < parts.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write(parts[i], 0, parts[i].length);
+            }
+            out.write(']');
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.smoking_map.smoking_map.domain.place.PlaceCatalogVersion;
+import com.smoking_map.smoking_map.domain.place.PlaceCatalogVersionRepository;
+import com.smoking_map.smoking_map.domain.place.PlaceChange;
+import com.smoking_map.smoking_map.domain.place.PlaceChangeRepository;
+import com.smoking_map.smoking_map.domain.place.PlaceChangeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 장소 변경마다 카탈로그 버전을 발급하고 변경 이력(PlaceChange)을 남깁니다.
+ * 변경을 일으킨 트랜잭션 안(커밋 직전)에서 기록하므로, 장소 변경과 이력은 함께 커밋되거나 함께 롤백됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceChangeRecorder {
+
+    private final PlaceChangeRepository placeChangeRepository;
+    private final PlaceCatalogVersionRepository placeCatalogVersionRepository;
+
+    // 버전 카운터 행이 없으면 기존 이력의 마지막 버전부터 이어서 만듭니다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initVersionCounter() {
+        if (!placeCatalogVersionRepository.existsById(PlaceCatalogVersion.SINGLETON_ID)) {
+            long latest = placeChangeRepository.findLatestVersion();
+            placeCatalogVersionRepository.save(new PlaceCatalogVersion(latest));
+            log.info("카탈로그 버전 카운터 생성: {}", latest);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        // 카운터 행의 쓰기 락은 커밋까지 유지되므로 버전은 커밋 순서대로 발급됩니다.
+        PlaceCatalogVersion counter = placeCatalogVersionRepository.findByIdForUpdate(PlaceCatalogVersion.SINGLETON_ID)
+                .orElseGet(() -> placeCatalogVersionRepository.save(new PlaceCatalogVersion(placeChangeRepository.findLatestVersion())));
+        long version = counter.increase();
+
+        placeChangeRepository.save(PlaceChange.builder()
+                .version(version)
+                .placeId(event.getPlaceId())
+                .type(PlaceChangeType.valueOf(event.getType().name()))
+                .build());
+        event.assignVersion(version);
+    }
+}
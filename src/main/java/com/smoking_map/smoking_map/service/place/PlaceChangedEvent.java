@@ -0,0 +1,43 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.smoking_map.smoking_map.domain.place.Place;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 장소가 생성/수정/삭제되었을 때 발행되는 이벤트.
+ * 메모리 인덱스 등은 트랜잭션 커밋 이후(@TransactionalEventListener) 이 이벤트를 받아 갱신합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PlaceChangedEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final Type type;
+    private final Place place;
+    // 커밋 직전 PlaceChangeRecorder가 발급한 카탈로그 버전 (커밋 이후 리스너에서 사용)
+    private long version;
+
+    public static PlaceChangedEvent created(Place place) {
+        return new PlaceChangedEvent(Type.CREATED, place);
+    }
+
+    public static PlaceChangedEvent updated(Place place) {
+        return new PlaceChangedEvent(Type.UPDATED, place);
+    }
+
+    public static PlaceChangedEvent deleted(Place place) {
+        return new PlaceChangedEvent(Type.DELETED, place);
+    }
+
+    public Long getPlaceId() {
+        return place.getId();
+    }
+
+    void assignVersion(long version) {
+        this.version = version;
+    }
+}
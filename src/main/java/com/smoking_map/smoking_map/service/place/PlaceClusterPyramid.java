@@ -0,0 +1,226 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.smoking_map.smoking_map.web.dto.PlaceClusterDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 줌 레벨별 격자(피라미드)로 장소를 미리 집계해 두는 마커 클러스터 인덱스.
+ * <p>
+ * 줌 z의 격자는 웹 메르카토르 기준 한 변이 2^(z+2) 칸(화면 약 64px)이며, 칸마다 장소 수와 좌표 합계,
+ * 대표 장소 id를 보관합니다. 장소 추가/삭제 시 모든 줌 레벨의 해당 칸만 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceClusterPyramid {
+
+    public static final int MIN_ZOOM = 0;
+    // 이보다 확대된 화면은 클러스터 대신 개별 장소를 반환합니다.
+    public static final int MAX_CLUSTER_ZOOM = 14;
+    private static final int CELL_SHIFT = 2;
+    private static final double MAX_MERCATOR_LAT = 85.05112878;
+
+    private final PlaceSpatialIndex placeSpatialIndex;
+
+    @SuppressWarnings("unchecked")
+    private final Map<Long, Cell>[] levels = new Map[MAX_CLUSTER_ZOOM + 1];
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    {
+        for (int z = MIN_ZOOM; z <= MAX_CLUSTER_ZOOM; z++) {
+            levels[z] = new HashMap<>();
+        }
+    }
+
+    // 공간 인덱스 적재(PlaceSpatialIndex.loadAll)가 끝난 뒤 실행되도록 순서를 뒤로 둡니다.
+    @Order(100)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        lock.writeLock().lock();
+        try {
+            for (Map<Long, Cell> level : levels) {
+                level.clear();
+            }
+            int count = placeSpatialIndex.forEachInBounds(-90, -180, 90, 180, this::addUnlocked);
+            log.info("클러스터 피라미드 구성 완료: 장소 {}개, 줌 {}~{}", count, MIN_ZOOM, MAX_CLUSTER_ZOOM);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        double lat = event.getPlace().getLatitude().doubleValue();
+        double lng = event.getPlace().getLongitude().doubleValue();
+        if (event.getType() == PlaceChangedEvent.Type.CREATED) {
+            add(event.getPlaceId(), lat, lng);
+        } else if (event.getType() == PlaceChangedEvent.Type.DELETED) {
+            remove(event.getPlaceId(), lat, lng);
+        }
+    }
+
+    public void add(long id, double lat, double lng) {
+        lock.writeLock().lock();
+        try {
+            addUnlocked(id, lat, lng);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id, double lat, double lng) {
+        lock.writeLock().lock();
+        try {
+            for (int z = MIN_ZOOM; z <= MAX_CLUSTER_ZOOM; z++) {
+                long cells = cellsPerAxis(z);
+                long x = cellX(lng, cells);
+                long y = cellY(lat, cells);
+                Long key = x * cells + y;
+                Cell cell = levels[z].get(key);
+                if (cell == null) {
+                    continue;
+                }
+                cell.count--;
+                if (cell.count <= 0) {
+                    levels[z].remove(key);
+                    continue;
+                }
+                cell.sumLat -= lat;
+                cell.sumLng -= lng;
+                if (cell.representativeId == id) {
+                    cell.representativeId = findReplacement(x, y, cells, id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 화면 영역과 줌 레벨에 해당하는 클러스터 목록을 최대 limit개 반환합니다.
+     * 화면 크기에 맞는 영역이면 결과는 보이는 격자 칸 수 이하지만, 줌에 비해 넓은 영역(전 세계 등)은
+     * 채워진 칸이 모두 걸리므로 limit으로 자릅니다.
+     */
+    public List<PlaceClusterDto> findClusters(double minLat, double minLng, double maxLat, double maxLng, int zoom, int limit) {
+        int z = Math.max(MIN_ZOOM, Math.min(zoom, MAX_CLUSTER_ZOOM));
+        long cells = cellsPerAxis(z);
+        long minX = cellX(minLng, cells);
+        long maxX = cellX(maxLng, cells);
+        long minY = cellY(maxLat, cells); // 메르카토르 y는 북쪽이 0
+        long maxY = cellY(minLat, cells);
+
+        List<PlaceClusterDto> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Map<Long, Cell> level = levels[z];
+            long rangeSize = (maxX - minX + 1) * (maxY - minY + 1);
+            if (rangeSize <= level.size()) {
+                for (long x = minX; x <= maxX; x++) {
+                    for (long y = minY; y <= maxY; y++) {
+                        Cell cell = level.get(x * cells + y);
+                        if (cell != null) {
+                            result.add(cell.toDto());
+                            if (result.size() >= limit) {
+                                return result;
+                            }
+                        }
+                    }
+                }
+            } else {
+                for (Map.Entry<Long, Cell> entry : level.entrySet()) {
+                    long x = entry.getKey() / cells;
+                    long y = entry.getKey() % cells;
+                    if (x >= minX && x <= maxX && y >= minY && y <= maxY) {
+                        result.add(entry.getValue().toDto());
+                        if (result.size() >= limit) {
+                            return result;
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    private void addUnlocked(long id, double lat, double lng) {
+        for (int z = MIN_ZOOM; z <= MAX_CLUSTER_ZOOM; z++) {
+            long cells = cellsPerAxis(z);
+            long key = cellX(lng, cells) * cells + cellY(lat, cells);
+            Cell cell = levels[z].computeIfAbsent(key, k -> new Cell(id));
+            cell.count++;
+            cell.sumLat += lat;
+            cell.sumLng += lng;
+        }
+    }
+
+    // 대표 장소가 삭제된 경우 같은 칸의 다른 장소를 공간 인덱스에서 찾습니다.
+    private long findReplacement(long x, long y, long cells, long removedId) {
+        double west = x * 360.0 / cells - 180.0;
+        double east = (x + 1) * 360.0 / cells - 180.0;
+        double north = mercatorYToLat(y, cells);
+        double south = mercatorYToLat(y + 1, cells);
+        long[] candidates = new long[2];
+        int found = placeSpatialIndex.findInBounds(south, west, north, east, candidates);
+        for (int i = 0; i < found; i++) {
+            if (candidates[i] != removedId) {
+                return candidates[i];
+            }
+        }
+        return 0L;
+    }
+
+    private static long cellsPerAxis(int zoom) {
+        return 1L << (zoom + CELL_SHIFT);
+    }
+
+    private static long cellX(double lng, long cells) {
+        double x = (lng + 180.0) / 360.0;
+        return clamp((long) Math.floor(x * cells), cells);
+    }
+
+    private static long cellY(double lat, long cells) {
+        double rad = Math.toRadians(Math.max(-MAX_MERCATOR_LAT, Math.min(MAX_MERCATOR_LAT, lat)));
+        double y = (1.0 - Math.log(Math.tan(rad) + 1.0 / Math.cos(rad)) / Math.PI) / 2.0;
+        return clamp((long) Math.floor(y * cells), cells);
+    }
+
+    private static double mercatorYToLat(long y, long cells) {
+        double n = Math.PI * (1.0 - 2.0 * y / cells);
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+
+    private static long clamp(long value, long cells) {
+        return Math.max(0, Math.min(cells - 1, value));
+    }
+
+    private static final class Cell {
+        int count;
+        double sumLat;
+        double sumLng;
+        long representativeId;
+
+        Cell(long representativeId) {
+            this.representativeId = representativeId;
+        }
+
+        PlaceClusterDto toDto() {
+            return new PlaceClusterDto(sumLat / count, sumLng / count, count,
+                    representativeId != 0L ? representativeId : null);
+        }
+    }
+}
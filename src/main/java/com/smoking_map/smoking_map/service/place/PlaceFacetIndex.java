@@ -0,0 +1,342 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.smoking_map.smoking_map.domain.place.PlaceQueryRepository;
+import com.smoking_map.smoking_map.web.dto.PlaceFilterDto;
+import com.smoking_map.smoking_map.web.dto.PlaceResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 지도 필터(평점, 리뷰 수, 사진 여부, 시도/시군구, 최근 등록)용 비트맵 색인.
+ * <p>
+ * 장소마다 id 순으로 내부 번호(ordinal)를 붙이고, 조건별로 해당 장소의 ordinal 비트를 켠 {@link BitSet}을 둡니다.
+ * 평점/리뷰 수는 "N 이상" 누적 비트맵이라 조건 하나가 비트맵 하나이고, 필터 조합은 비트맵 AND 몇 번으로 끝납니다.
+ * 최근 등록은 비트맵 대신 ordinal 범위로 처리합니다 (id가 등록 순서대로 증가하므로 ordinal 순 등록 시각도 오름차순).
+ * ordinal은 재사용하지 않으며 삭제된 장소는 alive 비트만 끕니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceFacetIndex {
+
+    // 평점 비트맵 간격 (0.5점 단위, 0.5 ~ 5.0)
+    static final double RATING_STEP = 0.5;
+    static final int[] REVIEW_THRESHOLDS = {1, 3, 5, 10, 20, 50, 100};
+    private static final int RATING_BUCKETS = (int) Math.round(5.0 / RATING_STEP);
+    private static final String NO_ADDRESS = "주소 정보 없음";
+
+    // 지오코딩 결과의 정식 명칭과 흔히 쓰는 약칭을 같은 시도로 취급합니다.
+    private static final Map<String, String> SIDO_ALIASES = Map.ofEntries(
+            Map.entry("서울특별시", "서울"), Map.entry("부산광역시", "부산"), Map.entry("대구광역시", "대구"),
+            Map.entry("인천광역시", "인천"), Map.entry("광주광역시", "광주"), Map.entry("대전광역시", "대전"),
+            Map.entry("울산광역시", "울산"), Map.entry("세종특별자치시", "세종"), Map.entry("경기도", "경기"),
+            Map.entry("강원도", "강원"), Map.entry("강원특별자치도", "강원"), Map.entry("충청북도", "충북"),
+            Map.entry("충청남도", "충남"), Map.entry("전라북도", "전북"), Map.entry("전북특별자치도", "전북"),
+            Map.entry("전라남도", "전남"), Map.entry("경상북도", "경북"), Map.entry("경상남도", "경남"),
+            Map.entry("제주특별자치도", "제주"));
+
+    private final PlaceCatalog placeCatalog;
+    private final PlaceQueryRepository placeQueryRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    // ordinal별 데이터
+    private long[] placeIds = new long[0];
+    private double[] ratings = new double[0];
+    private int[] reviewCounts = new int[0];
+    private LocalDateTime[] createdAts = new LocalDateTime[0];
+    private String[] sidos = new String[0];
+    private String[] sigungus = new String[0];
+    private int ordinalCount = 0;
+
+    private final BitSet alive = new BitSet();
+    private final BitSet hasPhotos = new BitSet();
+    // ratingAtLeast[k]: 평점 >= k * RATING_STEP (k = 1..RATING_BUCKETS, 0번은 사용하지 않음)
+    private final BitSet[] ratingAtLeast = newBitSets(RATING_BUCKETS + 1);
+    // reviewsAtLeast[k]: 리뷰 수 >= REVIEW_THRESHOLDS[k]
+    private final BitSet[] reviewsAtLeast = newBitSets(REVIEW_THRESHOLDS.length);
+    private final Map<String, BitSet> sidoBits = new HashMap<>();
+    private final Map<String, BitSet> sigunguBits = new HashMap<>();
+    private volatile boolean loaded = false;
+
+    // 공유 카탈로그 적재(PlaceCatalog.loadAll)가 끝난 뒤 실행되도록 순서를 뒤로 둡니다.
+    @Order(100)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        Map<Long, LocalDateTime> createdAtById = new HashMap<>();
+        for (Object[] row : placeQueryRepository.findAllCreatedAtRows()) {
+            createdAtById.put(((Number) row[0]).longValue(), (LocalDateTime) row[1]);
+        }
+        List<PlaceResponseDto> places = placeCatalog.findAll();
+        lock.writeLock().lock();
+        try {
+            clearUnlocked(places.size());
+            // 카탈로그는 id 오름차순이므로 ordinal도 id 순서가 됩니다.
+            for (PlaceResponseDto place : places) {
+                putUnlocked(place, createdAtById.get(place.getId()));
+            }
+            loaded = true;
+            log.info("장소 필터 색인 구성 완료: 장소 {}개, 시도 {}개, 시군구 {}개", places.size(), sidoBits.size(), sigunguBits.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 카탈로그가 먼저 갱신된 뒤(@Order(0)) 카탈로그의 최신 DTO로 색인합니다.
+    @Order(10)
+    @TransactionalEventListener
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        PlaceResponseDto place = event.getType() == PlaceChangedEvent.Type.DELETED
+                ? null : placeCatalog.find(event.getPlaceId());
+        if (place == null) {
+            remove(event.getPlaceId());
+        } else {
+            put(place, event.getPlace().getCreatedAt());
+        }
+    }
+
+    public void put(PlaceResponseDto place, LocalDateTime createdAt) {
+        lock.writeLock().lock();
+        try {
+            putUnlocked(place, createdAt);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long placeId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(placeId);
+            if (ordinal != null) {
+                clearBits(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 조건을 모두 만족하는 장소 id를 오름차순으로 반환합니다.
+     * 하한 조건이 비트맵 경계(평점 0.5 단위, REVIEW_THRESHOLDS)와 다르면 경계 비트맵으로 후보를 줄인 뒤 값으로 한 번 더 확인합니다.
+     */
+    public long[] findIds(PlaceFilterDto filter, LocalDateTime now) {
+        lock.readLock().lock();
+        try {
+            BitSet result = (BitSet) alive.clone();
+            boolean checkRating = false;
+            boolean checkReviews = false;
+            if (filter.getMinRating() != null && filter.getMinRating() > 0) {
+                int bucket = Math.min(RATING_BUCKETS, (int) Math.floor(filter.getMinRating() / RATING_STEP));
+                if (bucket > 0) {
+                    result.and(ratingAtLeast[bucket]);
+                }
+                checkRating = bucket * RATING_STEP != filter.getMinRating();
+            }
+            if (filter.getMinReviews() != null && filter.getMinReviews() > 0) {
+                int k = reviewBucket(filter.getMinReviews());
+                if (k >= 0) {
+                    result.and(reviewsAtLeast[k]);
+                }
+                checkReviews = k < 0 || REVIEW_THRESHOLDS[k] != filter.getMinReviews();
+            }
+            if (filter.getHasPhotos() != null) {
+                if (filter.getHasPhotos()) {
+                    result.and(hasPhotos);
+                } else {
+                    result.andNot(hasPhotos);
+                }
+            }
+            if (filter.getSido() != null) {
+                result.and(sidoBits.getOrDefault(normalizeSido(filter.getSido().trim()), new BitSet()));
+            }
+            if (filter.getSigungu() != null) {
+                result.and(sigunguBits.getOrDefault(filter.getSigungu().trim(), new BitSet()));
+            }
+            if (filter.getAddedWithinDays() != null) {
+                result.clear(0, firstOrdinalCreatedSince(now.minusDays(filter.getAddedWithinDays())));
+            }
+
+            long[] ids = new long[result.cardinality()];
+            int n = 0;
+            for (int ordinal = result.nextSetBit(0); ordinal >= 0; ordinal = result.nextSetBit(ordinal + 1)) {
+                if (checkRating && ratings[ordinal] < filter.getMinRating()) {
+                    continue;
+                }
+                if (checkReviews && reviewCounts[ordinal] < filter.getMinReviews()) {
+                    continue;
+                }
+                ids[n++] = placeIds[ordinal];
+            }
+            return Arrays.copyOf(ids, n);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putUnlocked(PlaceResponseDto place, LocalDateTime createdAt) {
+        Integer existing = ordinals.get(place.getId());
+        int ordinal;
+        if (existing != null) {
+            ordinal = existing;
+            clearBits(ordinal);
+        } else {
+            ordinal = ordinalCount++;
+            ensureCapacity(ordinalCount);
+            ordinals.put(place.getId(), ordinal);
+            placeIds[ordinal] = place.getId();
+            createdAts[ordinal] = createdAt;
+        }
+        ratings[ordinal] = place.getAverageRating();
+        reviewCounts[ordinal] = place.getReviewCount();
+
+        alive.set(ordinal);
+        for (int k = 1; k <= RATING_BUCKETS && place.getAverageRating() >= k * RATING_STEP; k++) {
+            ratingAtLeast[k].set(ordinal);
+        }
+        for (int k = 0; k < REVIEW_THRESHOLDS.length && place.getReviewCount() >= REVIEW_THRESHOLDS[k]; k++) {
+            reviewsAtLeast[k].set(ordinal);
+        }
+        if (place.getImageUrls() != null && !place.getImageUrls().isEmpty()) {
+            hasPhotos.set(ordinal);
+        }
+        String[] region = region(place.getRoadAddress());
+        sidos[ordinal] = region[0];
+        sigungus[ordinal] = region[1];
+        if (region[0] != null) {
+            sidoBits.computeIfAbsent(region[0], s -> new BitSet()).set(ordinal);
+        }
+        if (region[1] != null) {
+            sigunguBits.computeIfAbsent(region[1], s -> new BitSet()).set(ordinal);
+        }
+    }
+
+    private void clearBits(int ordinal) {
+        alive.clear(ordinal);
+        hasPhotos.clear(ordinal);
+        for (BitSet bits : ratingAtLeast) {
+            bits.clear(ordinal);
+        }
+        for (BitSet bits : reviewsAtLeast) {
+            bits.clear(ordinal);
+        }
+        clearRegionBit(sidoBits, sidos[ordinal], ordinal);
+        clearRegionBit(sigunguBits, sigungus[ordinal], ordinal);
+    }
+
+    private static void clearRegionBit(Map<String, BitSet> bitsByRegion, String region, int ordinal) {
+        if (region == null) {
+            return;
+        }
+        BitSet bits = bitsByRegion.get(region);
+        bits.clear(ordinal);
+        if (bits.isEmpty()) {
+            bitsByRegion.remove(region);
+        }
+    }
+
+    // createdAt이 since 이상인 첫 ordinal (ordinal 순 등록 시각은 오름차순, 값이 없으면 가장 오래된 것으로 취급)
+    private int firstOrdinalCreatedSince(LocalDateTime since) {
+        int lo = 0;
+        int hi = ordinalCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (createdAts[mid] == null || createdAts[mid].isBefore(since)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    // minReviews 이하인 가장 큰 경계의 위치 (없으면 -1)
+    private static int reviewBucket(int minReviews) {
+        int k = -1;
+        while (k + 1 < REVIEW_THRESHOLDS.length && REVIEW_THRESHOLDS[k + 1] <= minReviews) {
+            k++;
+        }
+        return k;
+    }
+
+    // 도로명 주소("시도 시군구 도로명 번호", GeocodingService 참고)의 앞 두 단어. 알 수 없으면 null
+    static String[] region(String roadAddress) {
+        if (roadAddress == null || roadAddress.isBlank() || roadAddress.startsWith(NO_ADDRESS)) {
+            return new String[2];
+        }
+        String[] tokens = roadAddress.trim().split("\\s+");
+        String sido = normalizeSido(tokens[0]);
+        // 시군구가 없는 시도(세종)는 지오코딩 결과에 시도 이름이 한 번 더 들어 있습니다.
+        String sigungu = tokens.length > 1 && isSigungu(tokens[1]) && !normalizeSido(tokens[1]).equals(sido) ? tokens[1] : null;
+        return new String[]{sido, sigungu};
+    }
+
+    static String normalizeSido(String sido) {
+        return SIDO_ALIASES.getOrDefault(sido, sido);
+    }
+
+    private static boolean isSigungu(String token) {
+        return token.endsWith("시") || token.endsWith("군") || token.endsWith("구");
+    }
+
+    private void clearUnlocked(int expectedSize) {
+        ordinals.clear();
+        ordinalCount = 0;
+        int capacity = expectedSize + 16;
+        placeIds = new long[capacity];
+        ratings = new double[capacity];
+        reviewCounts = new int[capacity];
+        createdAts = new LocalDateTime[capacity];
+        sidos = new String[capacity];
+        sigungus = new String[capacity];
+        alive.clear();
+        hasPhotos.clear();
+        for (BitSet bits : ratingAtLeast) {
+            bits.clear();
+        }
+        for (BitSet bits : reviewsAtLeast) {
+            bits.clear();
+        }
+        sidoBits.clear();
+        sigunguBits.clear();
+    }
+
+    private void ensureCapacity(int size) {
+        if (size <= placeIds.length) {
+            return;
+        }
+        int capacity = Math.max(16, placeIds.length * 2);
+        placeIds = Arrays.copyOf(placeIds, capacity);
+        ratings = Arrays.copyOf(ratings, capacity);
+        reviewCounts = Arrays.copyOf(reviewCounts, capacity);
+        createdAts = Arrays.copyOf(createdAts, capacity);
+        sidos = Arrays.copyOf(sidos, capacity);
+        sigungus = Arrays.copyOf(sigungus, capacity);
+    }
+
+    private static BitSet[] newBitSets(int n) {
+        BitSet[] bitSets = new BitSet[n];
+        for (int i = 0; i < n; i++) {
+            bitSets[i] = new BitSet();
+        }
+        return bitSets;
+    }
+}
@@ -0,0 +1,80 @@
+package com.smoking_map.smoking_map.service.place;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 지도 마커용 압축 바이너리 포맷 인코더.
+ * <pre>
+ * byte      포맷 버전 (FORMAT_VERSION)
+ * varint    마커 수 n
+ * 마커 n개 (id 오름차순):
+ *   varint          id - 이전 id
+ *   zigzag varint   위도(1e-7도 int) - 이전 위도
+ *   zigzag varint   경도(1e-7도 int) - 이전 경도
+ *   byte            평균 평점 × 50 (0~250, 부호 없음)
+ * </pre>
+ * 첫 마커의 "이전" 값은 모두 0입니다. 상세 정보는 /api/v1/places/{id} 로 조회합니다.
+ */
+public final class PlaceMarkerEncoder {
+
+    public static final int FORMAT_VERSION = 1;
+    static final int RATING_SCALE = 50;
+
+    private PlaceMarkerEncoder() {
+    }
+
+    // ids는 오름차순이어야 합니다.
+    public static byte[] encode(long[] ids, int[] latE7, int[] lngE7, byte[] ratings, int n) {
+        // 마커당 대략 9바이트 (id 차이 1, 좌표 차이 각 3~4, 평점 1)
+        ByteArrayOutputStream out = new ByteArrayOutputStream(8 + n * 10);
+        out.write(FORMAT_VERSION);
+        writeVarint(out, n);
+        long prevId = 0;
+        int prevLat = 0;
+        int prevLng = 0;
+        for (int i = 0; i < n; i++) {
+            if (i > 0 && ids[i] <= prevId) {
+                throw new IllegalArgumentException("id는 오름차순이어야 합니다. id=" + ids[i]);
+            }
+            writeVarint(out, ids[i] - prevId);
+            writeVarint(out, zigzag((long) latE7[i] - prevLat));
+            writeVarint(out, zigzag((long) lngE7[i] - prevLng));
+            out.write(ratings[i]);
+            prevId = ids[i];
+            prevLat = latE7[i];
+            prevLng = lngE7[i];
+        }
+        return out.toByteArray();
+    }
+
+    public static byte ratingByte(double averageRating) {
+        long scaled = Math.round(averageRating * RATING_SCALE);
+        return (byte) Math.max(0, Math.min(5 * RATING_SCALE, scaled));
+    }
+
+    public static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    // 좌표 차이는 음수일 수 있으므로 부호 비트를 맨 아래로 옮겨 작은 절댓값이 짧게 인코딩되도록 합니다.
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
@@ -0,0 +1,81 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.smoking_map.smoking_map.web.dto.PlaceResponseDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 공유 카탈로그로부터 만든 지도 마커 바이너리 스냅샷 (id, 좌표, 평점만 포함).
+ * 카탈로그 ETag가 바뀐 뒤 첫 요청에서 한 번만 인코딩/gzip 압축하고, 이후에는 캐시된 byte[]를 그대로 반환합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceMarkerSnapshot {
+
+    private final PlaceCatalog placeCatalog;
+
+    private volatile Markers markers;
+
+    @Getter
+    public static final class Markers {
+        private final String eTag;
+        private final int count;
+        private final byte[] raw;
+        private final byte[] gzipped;
+
+        Markers(String eTag, int count, byte[] raw, byte[] gzipped) {
+            this.eTag = eTag;
+            this.count = count;
+            this.raw = raw;
+            this.gzipped = gzipped;
+        }
+    }
+
+    // 카탈로그 적재 전에는 null
+    public Markers getMarkers() {
+        if (!placeCatalog.isLoaded()) {
+            return null;
+        }
+        String catalogETag = placeCatalog.getETag();
+        Markers current = markers;
+        if (current != null && current.eTag.equals(markerETag(catalogETag))) {
+            return current;
+        }
+        return rebuild(catalogETag);
+    }
+
+    private synchronized Markers rebuild(String catalogETag) {
+        Markers current = markers;
+        if (current != null && current.eTag.equals(markerETag(catalogETag))) {
+            return current;
+        }
+        // ETag를 먼저 읽었으므로 목록이 그보다 새로울 수는 있어도 오래될 수는 없습니다.
+        List<PlaceResponseDto> places = placeCatalog.findAll();
+        int n = places.size();
+        long[] ids = new long[n];
+        int[] lats = new int[n];
+        int[] lngs = new int[n];
+        byte[] ratings = new byte[n];
+        for (int i = 0; i < n; i++) {
+            PlaceResponseDto place = places.get(i);
+            ids[i] = place.getId();
+            lats[i] = PlaceSpatialIndex.toFixed(place.getLatitude().doubleValue());
+            lngs[i] = PlaceSpatialIndex.toFixed(place.getLongitude().doubleValue());
+            ratings[i] = PlaceMarkerEncoder.ratingByte(place.getAverageRating());
+        }
+        byte[] raw = PlaceMarkerEncoder.encode(ids, lats, lngs, ratings, n);
+        Markers next = new Markers(markerETag(catalogETag), n, raw, PlaceMarkerEncoder.gzip(raw));
+        markers = next;
+        log.debug("마커 스냅샷 갱신: {}개, {} bytes (gzip {} bytes)", n, raw.length, next.gzipped.length);
+        return next;
+    }
+
+    private static String markerETag(String catalogETag) {
+        return catalogETag + "-m" + PlaceMarkerEncoder.FORMAT_VERSION;
+    }
+}
@@ -0,0 +1,430 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.smoking_map.smoking_map.web.dto.PlaceResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 도로명 주소/지번 주소/설명에 대한 메모리 역색인 (2-gram, 한 글자 검색어용 1-gram 포함).
+ * <p>
+ * 장소마다 내부 번호(slot)를 붙이고, gram별로 그 gram이 들어 있는 slot을 오름차순 int 배열(posting)로 보관합니다.
+ * 검색어의 gram posting을 짧은 것부터 교집합한 뒤, 후보마다 실제로 검색어가 포함되는지 확인하고 점수를 매깁니다.
+ * 장소가 바뀌면 같은 slot을 그대로 쓰고, 달라진 gram의 posting만 고칩니다. 리뷰/즐겨찾기처럼 주소와 설명이 그대로인
+ * 변경은 posting을 건드리지 않습니다. 삭제된 장소의 slot은 다음에 추가되는 장소가 재사용하므로, 배열 크기는
+ * 동시에 존재한 장소 수를 넘지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceSearchIndex {
+
+    public static final int MAX_RESULTS = 100;
+
+    private static final int ROAD_ADDRESS = 0;
+    private static final int ORIGINAL_ADDRESS = 1;
+    private static final int DESCRIPTION = 2;
+    // 필드별 가중치 (주소 일치가 설명 일치보다 중요)
+    private static final int[] FIELD_WEIGHTS = {3, 3, 1};
+    // 검색어 전체가 공백까지 그대로 한 필드에 들어 있을 때의 추가 점수
+    private static final int PHRASE_BONUS = 4;
+
+    private final PlaceCatalog placeCatalog;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> slotsByPlaceId = new HashMap<>();
+    // slot별 데이터 (지운 slot은 placeIds가 0, texts가 null이며 freeSlots에서 재사용을 기다립니다)
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private long[] placeIds = new long[0];
+    private String[][] texts = new String[0][];
+    private int[] reviewCounts = new int[0];
+    private int slotCount = 0;
+    private volatile boolean loaded = false;
+
+    // 공유 카탈로그 적재(PlaceCatalog.loadAll)가 끝난 뒤 실행되도록 순서를 뒤로 둡니다.
+    @Order(100)
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            slotsByPlaceId.clear();
+            freeSlots.clear();
+            slotCount = 0;
+            List<PlaceResponseDto> places = placeCatalog.findAll();
+            placeIds = new long[places.size() + 16];
+            texts = new String[placeIds.length][];
+            reviewCounts = new int[placeIds.length];
+            for (PlaceResponseDto place : places) {
+                putUnlocked(place);
+            }
+            loaded = true;
+            log.info("장소 검색 색인 구성 완료: 장소 {}개, gram {}개", places.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 카탈로그가 먼저 갱신된 뒤(@Order(0)) 카탈로그의 최신 DTO로 색인합니다.
+    @Order(10)
+    @TransactionalEventListener
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        if (event.getType() == PlaceChangedEvent.Type.DELETED) {
+            remove(event.getPlaceId());
+            return;
+        }
+        PlaceResponseDto place = placeCatalog.find(event.getPlaceId());
+        if (place == null) {
+            remove(event.getPlaceId());
+        } else {
+            put(place);
+        }
+    }
+
+    public void put(PlaceResponseDto place) {
+        lock.writeLock().lock();
+        try {
+            putUnlocked(place);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long placeId) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(placeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // 할당된 slot 수 (재사용 확인용)
+    int slotCount() {
+        lock.readLock().lock();
+        try {
+            return slotCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 단어(공백 구분)가 주소 또는 설명에 포함된 장소 id를 관련도 순으로 최대 limit개 반환합니다.
+     * 점수: 단어마다 가장 높은 필드 가중치(단어 시작 위치에서 일치하면 2배) 합계 + 검색어 전체 일치 보너스.
+     * 점수가 같으면 리뷰가 많은 장소, 그다음 id가 작은 장소가 앞에 옵니다.
+     */
+    public long[] search(String keyword, int limit) {
+        String query = normalize(keyword);
+        String[] tokens = tokens(query);
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_RESULTS));
+        if (tokens.length == 0) {
+            return new long[0];
+        }
+        lock.readLock().lock();
+        try {
+            int[] candidates = candidates(tokens);
+            // 점수가 가장 낮은 결과가 맨 위에 오는 크기 limit의 힙
+            PriorityQueue<long[]> top = new PriorityQueue<>(cappedLimit + 1, PlaceSearchIndex::compareRank);
+            for (int slot : candidates) {
+                int score = score(texts[slot], query, tokens);
+                if (score == 0) {
+                    continue;
+                }
+                long[] ranked = {score, reviewCounts[slot], -placeIds[slot]};
+                if (top.size() < cappedLimit) {
+                    top.add(ranked);
+                } else if (compareRank(ranked, top.peek()) > 0) {
+                    top.poll();
+                    top.add(ranked);
+                }
+            }
+            long[] ids = new long[top.size()];
+            for (int i = ids.length - 1; i >= 0; i--) {
+                ids[i] = -top.poll()[2];
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 모든 gram의 posting 교집합 (짧은 posting부터)
+    private int[] candidates(String[] tokens) {
+        Set<Integer> grams = new HashSet<>();
+        for (String token : tokens) {
+            if (token.length() == 1) {
+                grams.add(unigram(token.charAt(0)));
+            } else {
+                for (int i = 0; i + 1 < token.length(); i++) {
+                    grams.add(bigram(token.charAt(i), token.charAt(i + 1)));
+                }
+            }
+        }
+        List<Postings> lists = new ArrayList<>(grams.size());
+        for (int gram : grams) {
+            Postings list = postings.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list);
+        }
+        lists.sort((a, b) -> Integer.compare(a.size, b.size));
+        int[] result = Arrays.copyOf(lists.get(0).slots, lists.get(0).size);
+        int resultSize = result.length;
+        for (int i = 1; i < lists.size() && resultSize > 0; i++) {
+            resultSize = intersect(result, resultSize, lists.get(i));
+        }
+        return Arrays.copyOf(result, resultSize);
+    }
+
+    // result[0..size)와 list의 교집합을 result 앞쪽에 다시 씁니다. 새 크기를 반환합니다.
+    static int intersect(int[] result, int size, Postings list) {
+        int n = 0;
+        int j = 0;
+        for (int i = 0; i < size && j < list.size; i++) {
+            int slot = result[i];
+            // 긴 posting은 이진 탐색으로 건너뜁니다.
+            int pos = Arrays.binarySearch(list.slots, j, list.size, slot);
+            if (pos >= 0) {
+                result[n++] = slot;
+                j = pos + 1;
+            } else {
+                j = -pos - 1;
+            }
+        }
+        return n;
+    }
+
+    private static int score(String[] fields, String query, String[] tokens) {
+        int score = 0;
+        for (String token : tokens) {
+            int best = 0;
+            for (int f = 0; f < fields.length; f++) {
+                int pos = fields[f].indexOf(token);
+                if (pos < 0) {
+                    continue;
+                }
+                boolean wordStart = pos == 0 || fields[f].charAt(pos - 1) == ' ';
+                best = Math.max(best, FIELD_WEIGHTS[f] * (wordStart ? 2 : 1));
+            }
+            if (best == 0) {
+                return 0;  // gram은 모두 있지만 단어가 연속해서 들어 있지는 않은 경우
+            }
+            score += best;
+        }
+        if (tokens.length > 1) {
+            for (String field : fields) {
+                if (field.contains(query)) {
+                    score += PHRASE_BONUS;
+                    break;
+                }
+            }
+        }
+        return score;
+    }
+
+    // 점수 → 리뷰 수 → id 작은 순 (id는 음수로 저장)
+    private static int compareRank(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            int c = Long.compare(a[i], b[i]);
+            if (c != 0) {
+                return c;
+            }
+        }
+        return 0;
+    }
+
+    private void putUnlocked(PlaceResponseDto place) {
+        String[] fields = new String[3];
+        fields[ROAD_ADDRESS] = normalize(place.getRoadAddress());
+        fields[ORIGINAL_ADDRESS] = normalize(place.getOriginalAddress());
+        fields[DESCRIPTION] = normalize(place.getDescription());
+
+        Integer existing = slotsByPlaceId.get(place.getId());
+        if (existing == null) {
+            int slot = allocateSlot();
+            placeIds[slot] = place.getId();
+            texts[slot] = fields;
+            reviewCounts[slot] = place.getReviewCount();
+            slotsByPlaceId.put(place.getId(), slot);
+            for (int gram : grams(fields)) {
+                postings.computeIfAbsent(gram, g -> new Postings()).insert(slot);
+            }
+            return;
+        }
+
+        int slot = existing;
+        String[] previous = texts[slot];
+        texts[slot] = fields;
+        reviewCounts[slot] = place.getReviewCount();
+        if (Arrays.equals(previous, fields)) {
+            return;
+        }
+        Set<Integer> previousGrams = grams(previous);
+        Set<Integer> currentGrams = grams(fields);
+        for (int gram : previousGrams) {
+            if (!currentGrams.contains(gram)) {
+                removeFromPosting(gram, slot);
+            }
+        }
+        for (int gram : currentGrams) {
+            if (!previousGrams.contains(gram)) {
+                postings.computeIfAbsent(gram, g -> new Postings()).insert(slot);
+            }
+        }
+    }
+
+    // 삭제된 장소의 slot을 먼저 재사용하고, 없으면 배열 끝에 새로 붙입니다.
+    private int allocateSlot() {
+        Integer free = freeSlots.poll();
+        if (free != null) {
+            return free;
+        }
+        if (slotCount == placeIds.length) {
+            int capacity = Math.max(16, placeIds.length * 2);
+            placeIds = Arrays.copyOf(placeIds, capacity);
+            texts = Arrays.copyOf(texts, capacity);
+            reviewCounts = Arrays.copyOf(reviewCounts, capacity);
+        }
+        return slotCount++;
+    }
+
+    private void removeUnlocked(long placeId) {
+        Integer slot = slotsByPlaceId.remove(placeId);
+        if (slot == null) {
+            return;
+        }
+        for (int gram : grams(texts[slot])) {
+            removeFromPosting(gram, slot);
+        }
+        placeIds[slot] = 0;
+        texts[slot] = null;
+        reviewCounts[slot] = 0;
+        freeSlots.push(slot);
+    }
+
+    private void removeFromPosting(int gram, int slot) {
+        Postings list = postings.get(gram);
+        if (list != null && list.remove(slot) && list.size == 0) {
+            postings.remove(gram);
+        }
+    }
+
+    private static Set<Integer> grams(String[] fields) {
+        Set<Integer> grams = new HashSet<>();
+        for (String field : fields) {
+            for (String token : tokens(field)) {
+                for (int i = 0; i < token.length(); i++) {
+                    grams.add(unigram(token.charAt(i)));
+                    if (i + 1 < token.length()) {
+                        grams.add(bigram(token.charAt(i), token.charAt(i + 1)));
+                    }
+                }
+            }
+        }
+        return grams;
+    }
+
+    // 소문자로 바꾸고 글자/숫자 외의 문자는 공백 하나로 합칩니다.
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(text.length());
+        boolean space = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(Character.toLowerCase(c));
+                space = false;
+            } else if (!space) {
+                sb.append(' ');
+                space = true;
+            }
+        }
+        int length = sb.length();
+        if (length > 0 && sb.charAt(length - 1) == ' ') {
+            sb.setLength(length - 1);
+        }
+        return sb.toString();
+    }
+
+    private static String[] tokens(String normalized) {
+        return normalized.isEmpty() ? new String[0] : normalized.split(" ");
+    }
+
+    // 1-gram은 상위 16비트가 0, 2-gram은 첫 글자가 상위 16비트 (글자 코드 0은 나오지 않음)
+    private static int unigram(char c) {
+        return c;
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    // slot 오름차순 posting
+    static final class Postings {
+        int[] slots = new int[4];
+        int size = 0;
+
+        void append(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        // 정렬 위치에 넣습니다. 가장 큰 번호면 뒤에 붙이기만 합니다.
+        boolean insert(int slot) {
+            if (size == 0 || slots[size - 1] < slot) {
+                append(slot);
+                return true;
+            }
+            int pos = Arrays.binarySearch(slots, 0, size, slot);
+            if (pos >= 0) {
+                return false;
+            }
+            int at = -pos - 1;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            System.arraycopy(slots, at, slots, at + 1, size - at);
+            slots[at] = slot;
+            size++;
+            return true;
+        }
+
+        boolean remove(int slot) {
+            int pos = Arrays.binarySearch(slots, 0, size, slot);
+            if (pos < 0) {
+                return false;
+            }
+            System.arraycopy(slots, pos + 1, slots, pos, size - pos - 1);
+            size--;
+            return true;
+        }
+    }
+}
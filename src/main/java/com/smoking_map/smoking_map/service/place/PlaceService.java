@@ -5,32 +5,46 @@ import com.drew.imaging.ImageProcessingException;
 import com.drew.metadata.Metadata;
 import com.drew.metadata.exif.ExifSubIFDDirectory;
 import com.drew.metadata.exif.GpsDirectory;
-import com.smoking_map.smoking_map.config.auth.dto.SessionUser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smoking_map.smoking_map.config.auth.CurrentUser;
 import com.smoking_map.smoking_map.domain.place.ImageInfo;
 import com.smoking_map.smoking_map.domain.place.Place;
+import com.smoking_map.smoking_map.domain.place.PlaceChange;
+import com.smoking_map.smoking_map.domain.place.PlaceChangeRepository;
+import com.smoking_map.smoking_map.domain.place.PlaceChangeType;
+import com.smoking_map.smoking_map.domain.place.PlaceQueryRepository;
 import com.smoking_map.smoking_map.domain.place.PlaceRepository;
-import com.smoking_map.smoking_map.domain.favorite.FavoriteRepository;
 import com.smoking_map.smoking_map.domain.user.User;
 import com.smoking_map.smoking_map.domain.user.UserRepository;
+import com.smoking_map.smoking_map.service.FavoriteSetCache;
 import com.smoking_map.smoking_map.service.geocoding.GeocodingService;
 import com.smoking_map.smoking_map.service.s3.FileValidator;
 import com.smoking_map.smoking_map.service.s3.S3Uploader;
+import com.smoking_map.smoking_map.web.dto.NearbyPlaceResponseDto;
+import com.smoking_map.smoking_map.web.dto.PlaceChangesResponseDto;
+import com.smoking_map.smoking_map.web.dto.PlaceClusterDto;
+import com.smoking_map.smoking_map.web.dto.PlaceFilterDto;
 import com.smoking_map.smoking_map.web.dto.PlaceResponseDto;
 import com.smoking_map.smoking_map.web.dto.PlaceSaveRequestDto;
-import jakarta.servlet.http.HttpSession;
+import com.smoking_map.smoking_map.web.dto.PlaceSuggestionDto;
+import com.smoking_map.smoking_map.web.dto.TrendingPlaceDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.RandomStringUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -41,21 +55,43 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 @Service
 public class PlaceService {
+    // 지도 영역 조회 시 한 번에 반환할 수 있는 최대 장소 수
+    public static final int MAX_BOUNDS_RESULTS = 1000;
+    // 가까운 장소 조회 시 최대 개수와 최대 반경(미터)
+    public static final int MAX_NEAREST_RESULTS = 50;
+    public static final double MAX_NEAREST_METERS = 50_000;
+    // 델타 동기화 시 한 번에 반환할 최대 변경 이력 수
+    public static final int MAX_CHANGES_RESULTS = 1000;
+
     private final PlaceRepository placeRepository;
+    private final PlaceQueryRepository placeQueryRepository;
     private final UserRepository userRepository;
     private final S3Uploader s3Uploader;
     private final GeocodingService geocodingService;
-    private final HttpSession httpSession;
+    private final CurrentUser currentUser;
     private final FileValidator fileValidator;
-    private final FavoriteRepository favoriteRepository;
+    private final FavoriteSetCache favoriteSetCache;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final PlaceClusterPyramid placeClusterPyramid;
+    private final PlaceCatalog placeCatalog;
+    private final PlaceStreamWriter placeStreamWriter;
+    private final PlaceSearchIndex placeSearchIndex;
+    private final PlaceAutocompleteIndex placeAutocompleteIndex;
+    private final PlaceFacetIndex placeFacetIndex;
+    private final PlaceViewTracker placeViewTracker;
+    private final PlaceTrendTracker placeTrendTracker;
+    private final PlaceChangeRepository placeChangeRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
 
-    @CacheEvict(value = {"basicPlaces"}, allEntries = true)
     @Transactional
     public Long save(PlaceSaveRequestDto requestDto, List<MultipartFile> images) throws IOException {
-        SessionUser sessionUser = (SessionUser) httpSession.getAttribute("user");
-        User user = userRepository.findByEmail(sessionUser.getEmail())
-                .orElseThrow(() -> new IllegalArgumentException("해당 사용자가 없습니다. email=" + sessionUser.getEmail()));
+        // --- ▼▼▼ [수정] 이메일로 사용자를 조회하지 않고 세션의 사용자 id로 참조만 연결 ▼▼▼ ---
+        User user = currentUser.getId()
+                .filter(userRepository::existsById)
+                .map(userRepository::getReferenceById)
+                .orElseThrow(() -> new IllegalArgumentException("해당 사용자가 없습니다."));
 
         GeocodingService.GeocodingResult geocodingResult = geocodingService.getAddressFromCoords(
                 requestDto.getLatitude().doubleValue(),
@@ -92,7 +128,9 @@ public class PlaceService {
                 finalPlace.addImageInfo(imageInfo);
             }
         }
-        return placeRepository.save(finalPlace).getId();
+        Place savedPlace = placeRepository.save(finalPlace);
+        eventPublisher.publishEvent(PlaceChangedEvent.created(savedPlace));
+        return savedPlace.getId();
     }
 
     private ImageInfo extractMetadataFromImage(InputStream inputStream, String originalFilename) {
@@ -126,7 +164,6 @@ public class PlaceService {
         return builder.build();
     }
 
-    @CacheEvict(value = {"basicPlaces"}, allEntries = true)
     @Transactional
     public List<String> addImages(Long id, List<MultipartFile> images) throws IOException {
         Place place = placeRepository.findById(id)
@@ -158,6 +195,7 @@ public class PlaceService {
                 place.addImageInfo(imageInfo);
                 newImageUrls.add(imageUrl);
             }
+            eventPublisher.publishEvent(PlaceChangedEvent.updated(place));
         }
         return newImageUrls;
     }
@@ -172,64 +210,361 @@ public class PlaceService {
 
     @Transactional(readOnly = true)
     public PlaceResponseDto findById(Long id) {
+        // --- ▼▼▼ [추가] 카탈로그에 있으면 DB 조회 없이 반환 (즐겨찾기 여부만 덧씌움) ▼▼▼ ---
+        PlaceResponseDto cached = placeCatalog.isLoaded() ? placeCatalog.find(id) : null;
+        if (cached != null) {
+            return withFavorite(cached, findFavoritedPlaceIds());
+        }
+
         Place entity = placeRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("해당 장소가 없습니다. id=" + id));
 
-        // --- ▼▼▼ [수정] 로그인 사용자 즐겨찾기 여부 확인 로직 추가 ▼▼▼ ---
-        SessionUser sessionUser = (SessionUser) httpSession.getAttribute("user");
-        if (sessionUser != null) {
-            User user = userRepository.findByEmail(sessionUser.getEmail()).orElse(null);
-            if (user != null) {
-                boolean isFavorited = favoriteRepository.existsByUserAndPlace(user, entity);
-                return new PlaceResponseDto(entity, isFavorited);
+        // --- ▼▼▼ [수정] 로그인 사용자 즐겨찾기 여부는 즐겨찾기 캐시에서 확인 ▼▼▼ ---
+        return new PlaceResponseDto(entity, findFavoritedPlaceIds().contains(id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<PlaceResponseDto> findAll() {
+        Set<Long> favoritedPlaceIds = findFavoritedPlaceIds();
+        // --- ▼▼▼ [수정] 공유 카탈로그가 준비되었으면 DB 대신 카탈로그에 즐겨찾기 여부만 덧씌워 반환 ▼▼▼ ---
+        if (placeCatalog.isLoaded()) {
+            List<PlaceResponseDto> places = new ArrayList<>(placeCatalog.findAll());
+            if (!favoritedPlaceIds.isEmpty()) {
+                places.replaceAll(dto -> withFavorite(dto, favoritedPlaceIds));
             }
+            return places;
         }
-        return new PlaceResponseDto(entity, false);
+        // 카탈로그 적재 전: 장소 행과 이미지 행을 쿼리 2개로 읽어 합칩니다 (장소별 이미지 지연 로딩 없음)
+        return PlaceResponseDto.fromRows(placeQueryRepository.findAllPlaceRows(), placeQueryRepository.findAllImageRows(), favoritedPlaceIds);
     }
 
+    // --- ▼▼▼ [추가] 조건부 요청(If-None-Match)용 ETag ▼▼▼ ---
+    // 카탈로그가 변경 시 미리 계산해 둔 해시에 사용자별 즐겨찾기 부분만 덧붙입니다. 카탈로그 적재 전에는 null.
+    // 응답 본문보다 먼저 읽어야 합니다 (그 사이 카탈로그가 바뀌어도 ETag가 본문보다 오래된 쪽이 되어 안전).
     @Transactional(readOnly = true)
-    public List<PlaceResponseDto> findAll() {
-        // --- ▼▼▼ [수정] 로그인 사용자 즐겨찾기 여부 확인 로직 추가 ▼▼▼ ---
-        SessionUser sessionUser = (SessionUser) httpSession.getAttribute("user");
-        Set<Long> favoritedPlaceIds = Collections.emptySet();
+    public String getCatalogETag() {
+        if (!placeCatalog.isLoaded()) {
+            return null;
+        }
+        return withFavoritesTag(placeCatalog.getETag(), findFavoritedPlaceIds());
+    }
+
+    @Transactional(readOnly = true)
+    public String getPlaceETag(Long id) {
+        String eTag = placeCatalog.isLoaded() ? placeCatalog.findETag(id) : null;
+        if (eTag == null) {
+            return null;
+        }
+        return findFavoritedPlaceIds().contains(id) ? eTag + "-f" : eTag;
+    }
+
+    // 즐겨찾기가 없으면 비로그인 응답과 본문이 같으므로 같은 ETag를 씁니다.
+    private static String withFavoritesTag(String eTag, Set<Long> favoritedPlaceIds) {
+        if (favoritedPlaceIds.isEmpty()) {
+            return eTag;
+        }
+        long[] ids = favoritedPlaceIds.stream().mapToLong(Long::longValue).sorted().toArray();
+        return eTag + "-" + DigestUtils.md5DigestAsHex(Arrays.toString(ids).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // --- ▼▼▼ [추가] 공유 카탈로그 JSON + 로그인 사용자의 즐겨찾기 id 목록 ▼▼▼ ---
+    // 응답 형태: {"version":N,"places":[...],"favoritePlaceIds":[...]} (version 이후 변경분은 /changes?since=N 으로 받습니다)
+    // places 부분은 모든 사용자가 같은 미리 직렬화된 바이트를 쓰므로 요청마다의 작업은 즐겨찾기 수에 비례합니다.
+    // 카탈로그 적재 전에는 DB 커서로 읽으며 바로 써서 전체 목록을 메모리에 올리지 않습니다.
+    // 세션(즐겨찾기)과 버전은 요청 스레드에서 미리 읽고, 본문은 응답 스트림에 쓸 때 만듭니다.
+    @Transactional(readOnly = true)
+    public StreamingResponseBody streamCatalogJson() {
+        List<Long> favoritedPlaceIds = new ArrayList<>(findFavoritedPlaceIds());
+        Collections.sort(favoritedPlaceIds);
+        boolean fromCatalog = placeCatalog.isLoaded();
+        long version = fromCatalog ? placeCatalog.getVersion() : placeChangeRepository.findLatestVersion();
+        byte[] placesJson = fromCatalog ? placeCatalog.getPlacesJson() : null;
+
+        return out -> {
+            out.write(("{\"version\":" + version + ",\"places\":").getBytes(StandardCharsets.UTF_8));
+            if (placesJson != null) {
+                out.write(placesJson);
+            } else {
+                placeStreamWriter.writePlaces(out, new HashSet<>(favoritedPlaceIds));
+            }
+            out.write(",\"favoritePlaceIds\":".getBytes(StandardCharsets.UTF_8));
+            out.write(objectMapper.writeValueAsBytes(favoritedPlaceIds));
+            out.write('}');
+        };
+    }
+
+    // --- ▼▼▼ [추가] since 버전 이후의 변경분(upsert + 삭제된 id)만 조회 ▼▼▼ ---
+    @Transactional(readOnly = true)
+    public PlaceChangesResponseDto findChangesSince(long since, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("잘못된 버전입니다. since=" + since);
+        }
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_CHANGES_RESULTS));
+        List<PlaceChange> changes = placeChangeRepository.findByVersionGreaterThanOrderByVersionAsc(since, PageRequest.of(0, cappedLimit));
+        if (changes.isEmpty()) {
+            return new PlaceChangesResponseDto(since, false, new ArrayList<>(), new ArrayList<>());
+        }
 
-        if (sessionUser != null) {
-            User user = userRepository.findByEmail(sessionUser.getEmail()).orElse(null);
-            if (user != null) {
-                favoritedPlaceIds = favoriteRepository.findPlaceIdsByUser(user);
+        // 같은 장소가 여러 번 바뀌었다면 마지막 변경만 의미가 있습니다.
+        Map<Long, PlaceChangeType> lastTypes = new LinkedHashMap<>();
+        for (PlaceChange change : changes) {
+            lastTypes.put(change.getPlaceId(), change.getType());
+        }
+        List<Long> upsertIds = lastTypes.entrySet().stream()
+                .filter(entry -> entry.getValue() != PlaceChangeType.DELETED)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        // 카탈로그는 커밋 직후 잠깐 뒤처질 수 있으므로 변경분은 DB의 현재 상태로 만듭니다.
+        Map<Long, Place> placesById = upsertIds.isEmpty() ? Collections.emptyMap()
+                : placeRepository.findAllWithImageInfosByIdIn(upsertIds).stream()
+                        .collect(Collectors.toMap(Place::getId, place -> place));
+
+        List<PlaceResponseDto> upserts = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        lastTypes.forEach((placeId, type) -> {
+            Place place = placesById.get(placeId);
+            if (place == null) {
+                // 삭제되었거나, 이 범위 이후의 변경에서 삭제된 장소
+                deletedIds.add(placeId);
+            } else {
+                upserts.add(new PlaceResponseDto(place));
+            }
+        });
+        long version = changes.get(changes.size() - 1).getVersion();
+        return new PlaceChangesResponseDto(version, changes.size() == cappedLimit, upserts, deletedIds);
+    }
+
+    // --- ▼▼▼ [추가] 지도 영역(bbox) 내 장소만 조회 (최대 limit개) ▼▼▼ ---
+    @Transactional(readOnly = true)
+    public List<PlaceResponseDto> findAllInBounds(BigDecimal minLat, BigDecimal minLng, BigDecimal maxLat, BigDecimal maxLng, int limit,
+                                                  PlaceFilterDto filter) {
+        if (minLat.compareTo(maxLat) > 0 || minLng.compareTo(maxLng) > 0) {
+            throw new IllegalArgumentException("잘못된 영역입니다. min 값은 max 값보다 클 수 없습니다.");
+        }
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_BOUNDS_RESULTS));
+        boolean filtered = filter != null && !filter.isEmpty();
+        LocalDateTime now = LocalDateTime.now();
+
+        Set<Long> favoritedPlaceIds = findFavoritedPlaceIds();
+        if (placeSpatialIndex.isLoaded() && placeCatalog.isLoaded() && (!filtered || placeFacetIndex.isLoaded())) {
+            // 메모리 공간 인덱스로 영역 내 id를 찾은 뒤 공유 카탈로그에서 DTO를 가져옵니다 (DB 조회 없음)
+            long[] ids = new long[cappedLimit];
+            int found;
+            if (filtered) {
+                // 필터 비트맵 AND 결과(id 오름차순)와 영역 내 장소의 교집합
+                long[] matchingIds = placeFacetIndex.findIds(filter, now);
+                int[] count = {0};
+                if (matchingIds.length > 0) {
+                    placeSpatialIndex.forEachInBounds(minLat.doubleValue(), minLng.doubleValue(), maxLat.doubleValue(), maxLng.doubleValue(), (id, lat, lng) -> {
+                        if (count[0] < ids.length && Arrays.binarySearch(matchingIds, id) >= 0) {
+                            ids[count[0]++] = id;
+                        }
+                    });
+                }
+                found = count[0];
+            } else {
+                found = placeSpatialIndex.findInBounds(minLat.doubleValue(), minLng.doubleValue(), maxLat.doubleValue(), maxLng.doubleValue(), ids);
             }
+            Arrays.sort(ids, 0, found);
+            List<PlaceResponseDto> result = new ArrayList<>(found);
+            for (int i = 0; i < found; i++) {
+                PlaceResponseDto dto = placeCatalog.find(ids[i]);
+                if (dto != null) {
+                    result.add(withFavorite(dto, favoritedPlaceIds));
+                }
+            }
+            return result;
         }
 
-        final Set<Long> finalFavoritedPlaceIds = favoritedPlaceIds;
-        return placeRepository.findAll().stream()
-                .map(place -> new PlaceResponseDto(place, finalFavoritedPlaceIds.contains(place.getId())))
+        // 색인 적재 전에는 조회한 limit개 안에서만 필터를 적용합니다.
+        List<Place> places = placeRepository.findInBounds(minLat, minLng, maxLat, maxLng, PageRequest.of(0, cappedLimit));
+        return places.stream()
+                .filter(place -> !filtered || matchesFilter(place, filter, now))
+                .sorted(Comparator.comparing(Place::getId))
+                .map(place -> new PlaceResponseDto(place, favoritedPlaceIds.contains(place.getId())))
                 .collect(Collectors.toList());
     }
 
+    // PlaceFacetIndex.findIds와 같은 조건을 엔티티 하나에 적용합니다.
+    private static boolean matchesFilter(Place place, PlaceFilterDto filter, LocalDateTime now) {
+        if (filter.getMinRating() != null && place.getAverageRating() < filter.getMinRating()) {
+            return false;
+        }
+        if (filter.getMinReviews() != null && place.getReviewCount() < filter.getMinReviews()) {
+            return false;
+        }
+        if (filter.getHasPhotos() != null && filter.getHasPhotos() == place.getImageInfos().isEmpty()) {
+            return false;
+        }
+        String[] region = PlaceFacetIndex.region(place.getRoadAddress());
+        if (filter.getSido() != null && !PlaceFacetIndex.normalizeSido(filter.getSido().trim()).equals(region[0])) {
+            return false;
+        }
+        if (filter.getSigungu() != null && !filter.getSigungu().trim().equals(region[1])) {
+            return false;
+        }
+        return filter.getAddedWithinDays() == null
+                || (place.getCreatedAt() != null && !place.getCreatedAt().isBefore(now.minusDays(filter.getAddedWithinDays())));
+    }
 
-    @Transactional
+    // --- ▼▼▼ [추가] 줌 레벨별 마커 클러스터 조회 ▼▼▼ ---
+    public List<PlaceClusterDto> findClusters(double minLat, double minLng, double maxLat, double maxLng, int zoom) {
+        if (minLat > maxLat || minLng > maxLng) {
+            throw new IllegalArgumentException("잘못된 영역입니다. min 값은 max 값보다 클 수 없습니다.");
+        }
+        if (zoom <= PlaceClusterPyramid.MAX_CLUSTER_ZOOM) {
+            // 줌에 비해 넓은 영역이면 채워진 칸이 모두 걸리므로 개별 장소와 같은 개수로 제한합니다.
+            return placeClusterPyramid.findClusters(minLat, minLng, maxLat, maxLng, zoom, MAX_BOUNDS_RESULTS);
+        }
+        // 충분히 확대된 화면은 개별 장소를 1개짜리 클러스터로 반환
+        List<PlaceClusterDto> clusters = new ArrayList<>();
+        placeSpatialIndex.forEachInBounds(minLat, minLng, maxLat, maxLng, (id, lat, lng) -> {
+            if (clusters.size() < MAX_BOUNDS_RESULTS) {
+                clusters.add(new PlaceClusterDto(lat, lng, 1, id));
+            }
+        });
+        return clusters;
+    }
+
+    // --- ▼▼▼ [추가] 현재 위치에서 가까운 장소 N개 조회 ▼▼▼ ---
+    @Transactional(readOnly = true)
+    public List<NearbyPlaceResponseDto> findNearest(double latitude, double longitude, int limit, double maxMeters) {
+        // NaN/Infinity는 범위 비교를 모두 통과하지 못하므로 !(min <= x <= max) 형태로 함께 거릅니다.
+        if (!(latitude >= -90.0 && latitude <= 90.0) || !(longitude >= -180.0 && longitude <= 180.0)) {
+            throw new IllegalArgumentException("잘못된 좌표입니다. lat은 -90~90, lng는 -180~180 사이여야 합니다.");
+        }
+        if (!Double.isFinite(maxMeters) || maxMeters < 0) {
+            throw new IllegalArgumentException("maxMeters는 0 이상의 유한한 값이어야 합니다.");
+        }
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_NEAREST_RESULTS));
+        double cappedMeters = Math.max(0, Math.min(maxMeters, MAX_NEAREST_METERS));
+
+        long[] ids = new long[cappedLimit];
+        double[] distances = new double[cappedLimit];
+        int found = placeSpatialIndex.findNearest(latitude, longitude, cappedMeters, ids, distances);
+        if (found == 0) {
+            return new ArrayList<>();
+        }
+
+        Set<Long> favoritedPlaceIds = findFavoritedPlaceIds();
+        List<NearbyPlaceResponseDto> result = new ArrayList<>(found);
+        if (placeCatalog.isLoaded()) {
+            // 탐색과 DTO 구성 모두 메모리에서 끝납니다.
+            for (int i = 0; i < found; i++) {
+                PlaceResponseDto dto = placeCatalog.find(ids[i]);
+                if (dto != null) {
+                    result.add(new NearbyPlaceResponseDto(withFavorite(dto, favoritedPlaceIds), distances[i]));
+                }
+            }
+            return result;
+        }
+
+        // 카탈로그 적재 전에는 찾은 N개만 PK로 조회합니다.
+        Map<Long, Place> placesById = placeRepository.findAllById(Arrays.stream(ids, 0, found).boxed().collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Place::getId, place -> place));
+        for (int i = 0; i < found; i++) {
+            Place place = placesById.get(ids[i]);
+            if (place != null) {
+                result.add(new NearbyPlaceResponseDto(new PlaceResponseDto(place, favoritedPlaceIds.contains(place.getId())), distances[i]));
+            }
+        }
+        return result;
+    }
+
+    // 공유 카탈로그 DTO는 즐겨찾기 여부가 false이므로, 즐겨찾기한 장소만 복사본을 만듭니다.
+    private static PlaceResponseDto withFavorite(PlaceResponseDto dto, Set<Long> favoritedPlaceIds) {
+        return favoritedPlaceIds.contains(dto.getId()) ? new PlaceResponseDto(dto, true) : dto;
+    }
+
+    // 로그인 사용자의 즐겨찾기 장소 ID 목록 (비로그인 시 빈 Set). 사용자별 즐겨찾기 캐시(로컬 + Redis)에서 읽습니다.
+    private Set<Long> findFavoritedPlaceIds() {
+        return currentUser.getId()
+                .map(favoriteSetCache::get)
+                .orElse(Collections.emptySet());
+    }
+
+
+    // --- ▼▼▼ [수정] 엔티티 조회/더티 체킹 대신 메모리 카운터만 올리고 주기적으로 일괄 반영 (PlaceViewCounter) ▼▼▼ ---
+    // 같은 방문자의 반복 조회는 일정 시간 동안 한 번만 세고, 순 방문자 수는 방문자 기준으로 추정합니다 (PlaceViewTracker).
+    // 방문자는 서버 세션 대신 서명된 방문자 쿠키로 구분합니다 (비로그인 조회마다 세션을 만들지 않음).
     public void increaseViewCount(Long id) {
-        Place place = placeRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("해당 장소가 없습니다. id=" + id));
-        place.increaseViewCount();
+        if (placeViewTracker.record(id, currentUser.getVisitorId())) {
+            placeTrendTracker.recordView(id);
+        }
     }
 
-    // --- ▼▼▼ [추가] 주소 검색 서비스 메서드 ▼▼▼ ---
+    // --- ▼▼▼ [추가] 급상승 장소: 시간 감쇠 점수 상위 limit개 (영역을 주면 영역 안에서만). 카탈로그 적재 전에는 빈 목록 ▼▼▼ ---
     @Transactional(readOnly = true)
-    public List<PlaceResponseDto> searchPlacesByKeyword(String keyword) {
-        if (!StringUtils.hasText(keyword)) {
+    public List<TrendingPlaceDto> findTrending(Double minLat, Double minLng, Double maxLat, Double maxLng, int limit) {
+        boolean bounded = minLat != null || minLng != null || maxLat != null || maxLng != null;
+        if (bounded && (minLat == null || minLng == null || maxLat == null || maxLng == null)) {
+            throw new IllegalArgumentException("영역을 지정하려면 minLat, minLng, maxLat, maxLng를 모두 입력해야 합니다.");
+        }
+        if (bounded && (minLat > maxLat || minLng > maxLng)) {
+            throw new IllegalArgumentException("잘못된 영역입니다. min 값은 max 값보다 클 수 없습니다.");
+        }
+        if (!placeCatalog.isLoaded()) {
             return new ArrayList<>();
         }
-        return placeRepository.findByAddressKeyword(keyword).stream()
-                .map(PlaceResponseDto::new)
-                .collect(Collectors.toList());
+        int cappedLimit = Math.max(1, Math.min(limit, PlaceTrendTracker.MAX_RESULTS));
+        long[] ids = new long[cappedLimit];
+        double[] scores = new double[cappedLimit];
+        int found = placeTrendTracker.findTop(id -> {
+            PlaceResponseDto dto = placeCatalog.find(id);
+            if (dto == null) {
+                return false;
+            }
+            if (!bounded) {
+                return true;
+            }
+            double lat = dto.getLatitude().doubleValue();
+            double lng = dto.getLongitude().doubleValue();
+            return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+        }, System.currentTimeMillis(), ids, scores);
+
+        Set<Long> favoritedPlaceIds = findFavoritedPlaceIds();
+        List<TrendingPlaceDto> result = new ArrayList<>(found);
+        for (int i = 0; i < found; i++) {
+            PlaceResponseDto dto = placeCatalog.find(ids[i]);
+            if (dto != null) {
+                result.add(new TrendingPlaceDto(withFavorite(dto, favoritedPlaceIds), scores[i]));
+            }
+        }
+        return result;
     }
 
-    // --- ▼▼▼ [추가] 기본 장소 정보 캐싱용 메서드 ▼▼▼ ---
-    @Cacheable(value = "basicPlaces", unless = "#result == null || #result.isEmpty()")
+    // --- ▼▼▼ [수정] 주소/설명 검색: 메모리 역색인으로 관련도 순 최대 limit개 ▼▼▼ ---
     @Transactional(readOnly = true)
-    public List<Place> findAllBasicPlaces() {
-        return placeRepository.findAll();
+    public List<PlaceResponseDto> searchPlacesByKeyword(String keyword, int limit) {
+        if (!StringUtils.hasText(keyword)) {
+            return new ArrayList<>();
+        }
+        int cappedLimit = Math.max(1, Math.min(limit, PlaceSearchIndex.MAX_RESULTS));
+        if (placeSearchIndex.isLoaded() && placeCatalog.isLoaded()) {
+            List<PlaceResponseDto> result = new ArrayList<>();
+            for (long id : placeSearchIndex.search(keyword, cappedLimit)) {
+                PlaceResponseDto dto = placeCatalog.find(id);
+                if (dto != null) {
+                    result.add(dto);
+                }
+            }
+            return result;
+        }
+        // 색인 적재 전에는 기존 LIKE 검색 (관련도 정렬 없이 id 순)
+        List<PlaceResponseDto> places = PlaceResponseDto.fromRows(
+                placeQueryRepository.findPlaceRowsByAddressKeyword(keyword),
+                placeQueryRepository.findImageRowsByAddressKeyword(keyword),
+                Collections.emptySet());
+        return places.size() > cappedLimit ? new ArrayList<>(places.subList(0, cappedLimit)) : places;
+    }
+
+    // --- ▼▼▼ [추가] 검색어 자동완성 (접두어 + 초성). 색인 적재 전에는 빈 목록 ▼▼▼ ---
+    public List<PlaceSuggestionDto> autocomplete(String query, int limit) {
+        if (!StringUtils.hasText(query) || !placeAutocompleteIndex.isLoaded()) {
+            return new ArrayList<>();
+        }
+        return placeAutocompleteIndex.suggest(query, limit);
     }
 
 
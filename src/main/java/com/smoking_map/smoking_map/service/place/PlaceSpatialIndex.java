@@ -0,0 +1,438 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.smoking_map.smoking_map.domain.place.PlaceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 모든 장소의 id/위도/경도를 원시 타입 배열로 보관하는 메모리 공간 인덱스.
+ * <p>
+ * 좌표는 1e-7도 단위 고정소수점 int로 저장하고, 0.01도 격자 칸(cell) 번호 순으로 정렬해 둡니다.
+ * 영역(bbox)/반경 조회는 격자 행마다 이진 탐색 후 연속 구간만 훑으므로 DB를 거치지 않습니다.
+ * 변경 시에는 새 배열을 만들어 통째로 교체(copy-on-write)하므로 조회는 락 없이 수행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceSpatialIndex {
+
+    static final double FIXED_POINT_SCALE = 1e7;
+    // 격자 한 칸의 크기 (0.01도, 약 1.1km)
+    static final int CELL_SIZE_E7 = 100_000;
+    private static final long LAT_OFFSET_E7 = 900_000_000L;
+    private static final long LNG_OFFSET_E7 = 1_800_000_000L;
+    private static final long LNG_CELL_STRIDE = (2 * LNG_OFFSET_E7) / CELL_SIZE_E7 + 1;
+
+    private final PlaceRepository placeRepository;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private volatile boolean loaded = false;
+
+    // 조회 결과를 객체 생성 없이 전달받기 위한 콜백
+    @FunctionalInterface
+    public interface PointVisitor {
+        void visit(long id, double latitude, double longitude);
+    }
+
+    // 이 인덱스를 기반으로 하는 다른 메모리 구조보다 먼저 적재되도록 가장 앞 순서로 둡니다.
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadAll() {
+        List<Object[]> rows = placeRepository.findAllCoordinates();
+        int n = rows.size();
+        long[] ids = new long[n];
+        double[] lats = new double[n];
+        double[] lngs = new double[n];
+        for (int i = 0; i < n; i++) {
+            Object[] row = rows.get(i);
+            ids[i] = (Long) row[0];
+            lats[i] = ((BigDecimal) row[1]).doubleValue();
+            lngs[i] = ((BigDecimal) row[2]).doubleValue();
+        }
+        rebuild(ids, lats, lngs, n);
+        loaded = true;
+        log.info("장소 공간 인덱스 로딩 완료: {}개", n);
+    }
+
+    @Order(0)
+    @TransactionalEventListener
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        if (event.getType() == PlaceChangedEvent.Type.DELETED) {
+            remove(event.getPlaceId());
+        } else if (!contains(event.getPlaceId())) {
+            put(event.getPlaceId(), event.getPlace().getLatitude().doubleValue(), event.getPlace().getLongitude().doubleValue());
+        }
+    }
+
+    // 전체 데이터를 한 번에 적재합니다.
+    public synchronized void rebuild(long[] ids, double[] lats, double[] lngs, int n) {
+        long[] order = new long[n];
+        for (int i = 0; i < n; i++) {
+            long key = cellKey(toFixed(lats[i]), toFixed(lngs[i]));
+            order[i] = (key << 32) | i;
+        }
+        Arrays.sort(order);
+
+        Snapshot next = new Snapshot(n);
+        for (int j = 0; j < n; j++) {
+            int i = (int) order[j];
+            next.cellKeys[j] = order[j] >>> 32;
+            next.ids[j] = ids[i];
+            next.lats[j] = toFixed(lats[i]);
+            next.lngs[j] = toFixed(lngs[i]);
+            next.sortedIds[j] = ids[i];
+        }
+        Arrays.sort(next.sortedIds);
+        snapshot = next;
+    }
+
+    // 장소를 추가합니다. 이미 있는 id라면 좌표를 교체합니다.
+    public synchronized void put(long id, double latitude, double longitude) {
+        if (contains(id)) {
+            remove(id);
+        }
+        Snapshot s = snapshot;
+        int latE7 = toFixed(latitude);
+        int lngE7 = toFixed(longitude);
+        long key = cellKey(latE7, lngE7);
+        int pos = lowerBound(s.cellKeys, s.size, key + 1);
+
+        Snapshot next = new Snapshot(s.size + 1);
+        copyWithGap(s, next, pos);
+        next.cellKeys[pos] = key;
+        next.ids[pos] = id;
+        next.lats[pos] = latE7;
+        next.lngs[pos] = lngE7;
+
+        int idPos = -Arrays.binarySearch(s.sortedIds, id) - 1;
+        System.arraycopy(s.sortedIds, 0, next.sortedIds, 0, idPos);
+        next.sortedIds[idPos] = id;
+        System.arraycopy(s.sortedIds, idPos, next.sortedIds, idPos + 1, s.size - idPos);
+        snapshot = next;
+    }
+
+    public synchronized boolean remove(long id) {
+        Snapshot s = snapshot;
+        int idPos = Arrays.binarySearch(s.sortedIds, id);
+        if (idPos < 0) {
+            return false;
+        }
+        int pos = 0;
+        while (s.ids[pos] != id) {
+            pos++;
+        }
+
+        Snapshot next = new Snapshot(s.size - 1);
+        System.arraycopy(s.cellKeys, 0, next.cellKeys, 0, pos);
+        System.arraycopy(s.ids, 0, next.ids, 0, pos);
+        System.arraycopy(s.lats, 0, next.lats, 0, pos);
+        System.arraycopy(s.lngs, 0, next.lngs, 0, pos);
+        int tail = s.size - pos - 1;
+        System.arraycopy(s.cellKeys, pos + 1, next.cellKeys, pos, tail);
+        System.arraycopy(s.ids, pos + 1, next.ids, pos, tail);
+        System.arraycopy(s.lats, pos + 1, next.lats, pos, tail);
+        System.arraycopy(s.lngs, pos + 1, next.lngs, pos, tail);
+
+        System.arraycopy(s.sortedIds, 0, next.sortedIds, 0, idPos);
+        System.arraycopy(s.sortedIds, idPos + 1, next.sortedIds, idPos, s.size - idPos - 1);
+        snapshot = next;
+        return true;
+    }
+
+    public boolean contains(long id) {
+        Snapshot s = snapshot;
+        return Arrays.binarySearch(s.sortedIds, id) >= 0;
+    }
+
+    public int size() {
+        return snapshot.size;
+    }
+
+    // 시작 시 DB 적재가 끝났는지 여부 (끝나기 전에는 DB 조회로 대체해야 합니다)
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * 영역 안의 장소 id를 out 배열에 채웁니다. out이 가득 차면 멈춥니다.
+     * @return out에 기록한 개수
+     */
+    public int findInBounds(double minLat, double minLng, double maxLat, double maxLng, long[] out) {
+        return scan(snapshot, minLat, minLng, maxLat, maxLng, Double.NaN, Double.NaN, -1, out, null);
+    }
+
+    // 영역 안의 모든 장소를 visitor로 전달하고 개수를 반환합니다.
+    public int forEachInBounds(double minLat, double minLng, double maxLat, double maxLng, PointVisitor visitor) {
+        return scan(snapshot, minLat, minLng, maxLat, maxLng, Double.NaN, Double.NaN, -1, null, visitor);
+    }
+
+    // 중심에서 radiusMeters 이내(haversine)인 장소 id를 out 배열에 채웁니다.
+    public int findWithinRadius(double latitude, double longitude, double radiusMeters, long[] out) {
+        double dLat = GeoUtils.metersToLatDegrees(radiusMeters);
+        double dLng = GeoUtils.metersToLngDegrees(latitude, radiusMeters);
+        return scan(snapshot, latitude - dLat, longitude - dLng, latitude + dLat, longitude + dLng,
+                latitude, longitude, radiusMeters, out, null);
+    }
+
+    public int forEachWithinRadius(double latitude, double longitude, double radiusMeters, PointVisitor visitor) {
+        double dLat = GeoUtils.metersToLatDegrees(radiusMeters);
+        double dLng = GeoUtils.metersToLngDegrees(latitude, radiusMeters);
+        return scan(snapshot, latitude - dLat, longitude - dLng, latitude + dLat, longitude + dLng,
+                latitude, longitude, radiusMeters, null, visitor);
+    }
+
+    /**
+     * 중심에서 가까운 순서로 최대 outIds.length개의 장소를 찾습니다 (haversine 거리, maxMeters 이내).
+     * 중심 칸에서 시작해 고리(ring) 단위로 칸을 넓혀 가며 탐색하고, 아직 보지 않은 칸까지의 최소 거리가
+     * 현재 k번째 거리보다 멀어지면 멈춥니다. 출력 배열을 힙 저장소로 그대로 사용하므로 객체를 만들지 않습니다.
+     * 좌표나 maxMeters가 유한한 값이 아니면(NaN 등) 거리 비교가 항상 거짓이 되어 전 세계 칸을 훑게 되므로 빈 결과를 반환합니다.
+     * @return 찾은 개수 (outIds/outDistances 앞쪽에 거리 오름차순으로 기록)
+     */
+    public int findNearest(double latitude, double longitude, double maxMeters, long[] outIds, double[] outDistances) {
+        Snapshot s = snapshot;
+        int k = Math.min(outIds.length, outDistances.length);
+        if (s.size == 0 || k == 0) {
+            return 0;
+        }
+        if (!Double.isFinite(latitude) || !Double.isFinite(longitude) || !Double.isFinite(maxMeters) || maxMeters < 0) {
+            return 0;
+        }
+        int latE7 = toFixed(Math.max(-90.0, Math.min(90.0, latitude)));
+        int lngE7 = toFixed(Math.max(-180.0, Math.min(180.0, longitude)));
+        long centerRow = latCell(latE7);
+        long centerCol = lngCell(lngE7);
+        long maxRow = latCell(toFixed(90.0));
+        long maxCol = lngCell(toFixed(180.0));
+
+        int count = 0;
+        for (long ring = 0; ; ring++) {
+            long rowFrom = centerRow - ring;
+            long rowTo = centerRow + ring;
+            long colFrom = centerCol - ring;
+            long colTo = centerCol + ring;
+            for (long row = Math.max(0, rowFrom); row <= Math.min(maxRow, rowTo); row++) {
+                boolean edgeRow = row == rowFrom || row == rowTo;
+                long step = edgeRow ? 1 : Math.max(1, colTo - colFrom);
+                for (long col = colFrom; col <= colTo; col += step) {
+                    if (col < 0 || col > maxCol) {
+                        continue;
+                    }
+                    long key = row * LNG_CELL_STRIDE + col;
+                    for (int i = lowerBound(s.cellKeys, s.size, key); i < s.size && s.cellKeys[i] == key; i++) {
+                        double d = GeoUtils.haversineMeters(latitude, longitude, s.lats[i] / FIXED_POINT_SCALE, s.lngs[i] / FIXED_POINT_SCALE);
+                        if (d > maxMeters) {
+                            continue;
+                        }
+                        if (count < k) {
+                            heapPush(outIds, outDistances, count++, s.ids[i], d);
+                        } else if (d < outDistances[0]) {
+                            heapReplaceTop(outIds, outDistances, k, s.ids[i], d);
+                        }
+                    }
+                }
+            }
+
+            // 아직 탐색하지 않은 칸(현재 고리 바깥)까지의 최소 거리
+            double unexplored = distanceOutsideBlock(latitude, longitude, rowFrom, rowTo, colFrom, colTo);
+            boolean coveredAll = rowFrom <= 0 && rowTo >= maxRow && colFrom <= 0 && colTo >= maxCol;
+            if (coveredAll || unexplored > maxMeters || (count == k && outDistances[0] <= unexplored)) {
+                break;
+            }
+        }
+
+        // 최대 힙을 제자리 정렬하여 거리 오름차순으로 만듭니다.
+        for (int end = count - 1; end > 0; end--) {
+            swap(outIds, outDistances, 0, end);
+            siftDown(outIds, outDistances, 0, end);
+        }
+        return count;
+    }
+
+    // 격자 행(위도 칸)마다 [경도 시작 칸, 경도 끝 칸] 구간을 이진 탐색으로 찾아 순회합니다.
+    private int scan(Snapshot s, double minLat, double minLng, double maxLat, double maxLng,
+                     double centerLat, double centerLng, double radiusMeters, long[] out, PointVisitor visitor) {
+        if (s.size == 0 || minLat > maxLat || minLng > maxLng || (out != null && out.length == 0)) {
+            return 0;
+        }
+        int minLatE7 = toFixed(Math.max(minLat, -90.0));
+        int maxLatE7 = toFixed(Math.min(maxLat, 90.0));
+        int minLngE7 = toFixed(Math.max(minLng, -180.0));
+        int maxLngE7 = toFixed(Math.min(maxLng, 180.0));
+        long firstRow = latCell(minLatE7);
+        long lastRow = latCell(maxLatE7);
+        long firstCol = lngCell(minLngE7);
+        long lastCol = lngCell(maxLngE7);
+
+        int count = 0;
+        for (long row = firstRow; row <= lastRow; row++) {
+            long lastKey = row * LNG_CELL_STRIDE + lastCol;
+            for (int i = lowerBound(s.cellKeys, s.size, row * LNG_CELL_STRIDE + firstCol); i < s.size && s.cellKeys[i] <= lastKey; i++) {
+                int lat = s.lats[i];
+                int lng = s.lngs[i];
+                if (lat < minLatE7 || lat > maxLatE7 || lng < minLngE7 || lng > maxLngE7) {
+                    continue;
+                }
+                double latitude = lat / FIXED_POINT_SCALE;
+                double longitude = lng / FIXED_POINT_SCALE;
+                if (radiusMeters >= 0 && GeoUtils.haversineMeters(centerLat, centerLng, latitude, longitude) > radiusMeters) {
+                    continue;
+                }
+                if (out != null) {
+                    out[count] = s.ids[i];
+                }
+                if (visitor != null) {
+                    visitor.visit(s.ids[i], latitude, longitude);
+                }
+                count++;
+                if (out != null && count == out.length) {
+                    return count;
+                }
+            }
+        }
+        return count;
+    }
+
+    // 중심점에서 [rowFrom..rowTo] x [colFrom..colTo] 칸 블록 바깥의 임의 지점까지의 최소 거리(미터)
+    private static double distanceOutsideBlock(double lat, double lng, long rowFrom, long rowTo, long colFrom, long colTo) {
+        double south = (rowFrom * (double) CELL_SIZE_E7 - LAT_OFFSET_E7) / FIXED_POINT_SCALE;
+        double north = ((rowTo + 1) * (double) CELL_SIZE_E7 - LAT_OFFSET_E7) / FIXED_POINT_SCALE;
+        double west = (colFrom * (double) CELL_SIZE_E7 - LNG_OFFSET_E7) / FIXED_POINT_SCALE;
+        double east = ((colTo + 1) * (double) CELL_SIZE_E7 - LNG_OFFSET_E7) / FIXED_POINT_SCALE;
+
+        double toNorth = north >= 90.0 ? Double.POSITIVE_INFINITY : GeoUtils.METERS_PER_DEGREE_LAT * (north - lat);
+        double toSouth = south <= -90.0 ? Double.POSITIVE_INFINITY : GeoUtils.METERS_PER_DEGREE_LAT * (lat - south);
+        // 경도 경계(자오선)까지의 거리: sin(d/R) = cos(lat) * sin(dLng)
+        double cosLat = Math.cos(Math.toRadians(lat));
+        double toEast = east >= 180.0 ? Double.POSITIVE_INFINITY : meridianDistance(cosLat, east - lng);
+        double toWest = west <= -180.0 ? Double.POSITIVE_INFINITY : meridianDistance(cosLat, lng - west);
+        return Math.min(Math.min(toNorth, toSouth), Math.min(toEast, toWest));
+    }
+
+    private static double meridianDistance(double cosLat, double dLngDegrees) {
+        if (dLngDegrees >= 90.0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double s = cosLat * Math.sin(Math.toRadians(dLngDegrees));
+        return GeoUtils.EARTH_RADIUS_METERS * Math.asin(Math.min(1.0, s));
+    }
+
+    // --- 거리 기준 최대 힙 (ids/distances 배열을 그대로 힙 저장소로 사용) ---
+    private static void heapPush(long[] ids, double[] dist, int size, long id, double d) {
+        int i = size;
+        ids[i] = id;
+        dist[i] = d;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (dist[parent] >= dist[i]) {
+                break;
+            }
+            swap(ids, dist, parent, i);
+            i = parent;
+        }
+    }
+
+    private static void heapReplaceTop(long[] ids, double[] dist, int size, long id, double d) {
+        ids[0] = id;
+        dist[0] = d;
+        siftDown(ids, dist, 0, size);
+    }
+
+    private static void siftDown(long[] ids, double[] dist, int i, int size) {
+        while (true) {
+            int left = 2 * i + 1;
+            if (left >= size) {
+                return;
+            }
+            int largest = (left + 1 < size && dist[left + 1] > dist[left]) ? left + 1 : left;
+            if (dist[i] >= dist[largest]) {
+                return;
+            }
+            swap(ids, dist, i, largest);
+            i = largest;
+        }
+    }
+
+    private static void swap(long[] ids, double[] dist, int a, int b) {
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        double d = dist[a];
+        dist[a] = dist[b];
+        dist[b] = d;
+    }
+
+    private static void copyWithGap(Snapshot from, Snapshot to, int gap) {
+        System.arraycopy(from.cellKeys, 0, to.cellKeys, 0, gap);
+        System.arraycopy(from.ids, 0, to.ids, 0, gap);
+        System.arraycopy(from.lats, 0, to.lats, 0, gap);
+        System.arraycopy(from.lngs, 0, to.lngs, 0, gap);
+        int tail = from.size - gap;
+        System.arraycopy(from.cellKeys, gap, to.cellKeys, gap + 1, tail);
+        System.arraycopy(from.ids, gap, to.ids, gap + 1, tail);
+        System.arraycopy(from.lats, gap, to.lats, gap + 1, tail);
+        System.arraycopy(from.lngs, gap, to.lngs, gap + 1, tail);
+    }
+
+    // sorted[0..size) 에서 key 이상인 첫 위치
+    private static int lowerBound(long[] sorted, int size, long key) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    static int toFixed(double degrees) {
+        return (int) Math.round(degrees * FIXED_POINT_SCALE);
+    }
+
+    private static long latCell(int latE7) {
+        return (latE7 + LAT_OFFSET_E7) / CELL_SIZE_E7;
+    }
+
+    private static long lngCell(int lngE7) {
+        return (lngE7 + LNG_OFFSET_E7) / CELL_SIZE_E7;
+    }
+
+    private static long cellKey(int latE7, int lngE7) {
+        return latCell(latE7) * LNG_CELL_STRIDE + lngCell(lngE7);
+    }
+
+    // 한 시점의 인덱스 상태. 생성 이후에는 변경하지 않습니다.
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(0);
+
+        final int size;
+        final long[] cellKeys;
+        final long[] ids;
+        final int[] lats;
+        final int[] lngs;
+        final long[] sortedIds;
+
+        Snapshot(int size) {
+            this.size = size;
+            this.cellKeys = new long[size];
+            this.ids = new long[size];
+            this.lats = new int[size];
+            this.lngs = new int[size];
+            this.sortedIds = new long[size];
+        }
+    }
+}
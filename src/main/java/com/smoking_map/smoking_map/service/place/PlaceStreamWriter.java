@@ -0,0 +1,124 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.smoking_map.smoking_map.domain.place.PlaceQueryRepository;
+import com.smoking_map.smoking_map.web.dto.PlaceResponseDto;
+import com.smoking_map.smoking_map.web.dto.admin.AdminPlaceDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 장소 목록을 DB에서 앞으로만 읽는 커서(ScrollMode.FORWARD_ONLY)로 한 행씩 읽어 곧바로 JSON으로 씁니다.
+ * <p>
+ * 엔티티 대신 스칼라 행만 읽으므로 영속성 컨텍스트에 쌓이는 것이 없고, 전체 목록/DTO/응답 본문을 메모리에
+ * 모으지 않아 힙 사용량이 장소 수와 무관합니다. 출력은 CHUNK_SIZE건마다 내보냅니다.
+ * MySQL Connector/J는 fetch size가 Integer.MIN_VALUE일 때만 결과를 행 단위로 받아오므로 방언에 따라 값을 고릅니다.
+ * 커서가 열려 있는 동안 같은 커넥션으로 다른 쿼리를 실행할 수 없으므로 필요한 값은 모두 한 쿼리로 가져옵니다.
+ */
+@Component
+public class PlaceStreamWriter {
+
+    static final int CHUNK_SIZE = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectWriter objectWriter;
+
+    public PlaceStreamWriter(ObjectMapper objectMapper) {
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * PlaceResponseDto JSON 배열을 씁니다 (id 오름차순, /api/v1/places 목록과 같은 형태).
+     * @param favoritedPlaceIds 즐겨찾기 여부를 true로 표시할 장소 id
+     */
+    @Transactional(readOnly = true)
+    public void writePlaces(OutputStream out, Set<Long> favoritedPlaceIds) throws IOException {
+        try (JsonGenerator json = createGenerator(out);
+             ScrollableResults<Object[]> rows = scroll(PlaceQueryRepository.PLACE_IMAGE_ROWS)) {
+            json.writeStartArray();
+            // 같은 장소의 행(이미지별)은 연속해서 나오므로 장소가 바뀔 때 이전 장소를 씁니다.
+            Object[] current = null;
+            List<String> imageUrls = new ArrayList<>();
+            int written = 0;
+            while (rows.next()) {
+                Object[] row = rows.get();
+                if (current != null && !current[0].equals(row[0])) {
+                    writePlace(json, current, imageUrls, favoritedPlaceIds);
+                    imageUrls = new ArrayList<>();
+                    if (++written % CHUNK_SIZE == 0) {
+                        json.flush();
+                    }
+                }
+                current = row;
+                if (row[8] != null) {
+                    imageUrls.add((String) row[8]);
+                }
+            }
+            if (current != null) {
+                writePlace(json, current, imageUrls, favoritedPlaceIds);
+            }
+            json.writeEndArray();
+        }
+    }
+
+    // 관리자 장소 목록(AdminPlaceDto) JSON 배열을 씁니다 (id 오름차순).
+    @Transactional(readOnly = true)
+    public void writeAdminPlaces(OutputStream out) throws IOException {
+        try (JsonGenerator json = createGenerator(out);
+             ScrollableResults<Object[]> rows = scroll(PlaceQueryRepository.ADMIN_EXPORT_ROWS)) {
+            json.writeStartArray();
+            int written = 0;
+            while (rows.next()) {
+                objectWriter.writeValue(json, AdminPlaceDto.fromRow(rows.get()));
+                if (++written % CHUNK_SIZE == 0) {
+                    json.flush();
+                }
+            }
+            json.writeEndArray();
+        }
+    }
+
+    private void writePlace(JsonGenerator json, Object[] row, List<String> imageUrls, Set<Long> favoritedPlaceIds) throws IOException {
+        long id = ((Number) row[0]).longValue();
+        objectWriter.writeValue(json, PlaceResponseDto.fromRow(row, imageUrls, favoritedPlaceIds.contains(id)));
+    }
+
+    // 응답 스트림은 호출한 쪽(스프링 MVC)이 닫습니다.
+    private JsonGenerator createGenerator(OutputStream out) throws IOException {
+        return objectWriter.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ScrollableResults<Object[]> scroll(String jpql) {
+        return entityManager.createQuery(jpql, Object[].class)
+                .unwrap(org.hibernate.query.Query.class)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .setFetchSize(fetchSize())
+                .scroll(ScrollMode.FORWARD_ONLY);
+    }
+
+    private int fetchSize() {
+        SessionFactoryImplementor sessionFactory = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class);
+        return sessionFactory.getJdbcServices().getDialect() instanceof MySQLDialect ? Integer.MIN_VALUE : CHUNK_SIZE;
+    }
+}
@@ -0,0 +1,177 @@
+package com.smoking_map.smoking_map.service.place;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.LongPredicate;
+
+/**
+ * 급상승(트렌딩) 장소 집계: 조회/즐겨찾기/리뷰 이벤트에 가중치를 주고 시간에 따라 지수 감쇠한 점수의 상위 K개.
+ * <p>
+ * 감쇠는 forward decay 방식입니다. 이벤트마다 {@code weight * e^(λ(t - 기준시각))}를 더해 두면 모든 점수가
+ * 같은 비율로 감쇠하므로 순위를 위해 기존 점수를 다시 계산할 필요가 없고, 지수가 커지면 기준 시각만 옮겨 다시 맞춥니다.
+ * 추적할 장소 수는 Space-Saving(가득 차면 최솟값 카운터를 새 장소가 물려받음)으로 capacity개로 고정해,
+ * 점수가 capacity분의 1 이상인 장소는 빠짐없이 남습니다. 집계는 서버별 메모리에만 있습니다.
+ */
+@Component
+public class PlaceTrendTracker {
+
+    public static final int MAX_RESULTS = 50;
+
+    static final double VIEW_WEIGHT = 1;
+    static final double FAVORITE_WEIGHT = 5;
+    static final double REVIEW_WEIGHT = 10;
+
+    // e^40 ≈ 2.4e17: 이 이상 커지기 전에 기준 시각을 옮겨 double 정밀도를 유지합니다.
+    private static final double MAX_EXPONENT = 40;
+
+    private static final class Counter {
+        private final long placeId;
+        private double score;
+        // 이 카운터를 물려받을 때의 점수 (실제 점수는 score - error 이상)
+        private double error;
+
+        private Counter(long placeId, double score, double error) {
+            this.placeId = placeId;
+            this.score = score;
+            this.error = error;
+        }
+    }
+
+    private static final Comparator<Counter> BY_SCORE = Comparator.<Counter>comparingDouble(c -> c.score)
+            .thenComparingLong(c -> c.placeId);
+
+    private final double lambdaPerMilli;
+    private final int capacity;
+    private final Map<Long, Counter> counters = new HashMap<>();
+    private final TreeSet<Counter> byScore = new TreeSet<>(BY_SCORE);
+    private long landmarkMillis;
+
+    public PlaceTrendTracker(@Value("${place.trending.half-life:6h}") Duration halfLife,
+                             @Value("${place.trending.capacity:2000}") int capacity) {
+        this(halfLife.toMillis(), capacity, System.currentTimeMillis());
+    }
+
+    PlaceTrendTracker(long halfLifeMillis, int capacity, long nowMillis) {
+        if (halfLifeMillis <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("half-life와 capacity는 0보다 커야 합니다.");
+        }
+        this.lambdaPerMilli = Math.log(2) / halfLifeMillis;
+        this.capacity = capacity;
+        this.landmarkMillis = nowMillis;
+    }
+
+    // 중복 제거된 조회 (PlaceViewTracker가 센 조회만)
+    public void recordView(long placeId) {
+        record(placeId, VIEW_WEIGHT, System.currentTimeMillis());
+    }
+
+    public void recordFavorite(long placeId) {
+        recordAfterCommit(placeId, FAVORITE_WEIGHT);
+    }
+
+    public void recordReview(long placeId) {
+        recordAfterCommit(placeId, REVIEW_WEIGHT);
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에만 반영합니다 (롤백된 즐겨찾기/리뷰는 세지 않음).
+    private void recordAfterCommit(long placeId, double weight) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(placeId, weight, System.currentTimeMillis());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(placeId, weight, System.currentTimeMillis());
+            }
+        });
+    }
+
+    synchronized void record(long placeId, double weight, long nowMillis) {
+        double exponent = lambdaPerMilli * (nowMillis - landmarkMillis);
+        if (exponent > MAX_EXPONENT) {
+            rescale(nowMillis);
+            exponent = 0;
+        }
+        double increment = weight * Math.exp(exponent);
+
+        Counter counter = counters.get(placeId);
+        if (counter != null) {
+            byScore.remove(counter);
+            counter.score += increment;
+        } else if (counters.size() < capacity) {
+            counter = new Counter(placeId, increment, 0);
+            counters.put(placeId, counter);
+        } else {
+            Counter min = byScore.pollFirst();
+            counters.remove(min.placeId);
+            counter = new Counter(placeId, min.score + increment, min.score);
+            counters.put(placeId, counter);
+        }
+        byScore.add(counter);
+    }
+
+    // 모든 점수를 nowMillis 기준으로 다시 맞춥니다. 반올림으로 순서가 바뀔 수 있으므로 정렬 집합은 새로 만듭니다.
+    private void rescale(long nowMillis) {
+        double factor = Math.exp(-lambdaPerMilli * (nowMillis - landmarkMillis));
+        List<Counter> all = new ArrayList<>(counters.values());
+        byScore.clear();
+        for (Counter counter : all) {
+            counter.score *= factor;
+            counter.error *= factor;
+        }
+        byScore.addAll(all);
+        landmarkMillis = nowMillis;
+    }
+
+    /**
+     * filter를 통과하는 장소를 점수 내림차순으로 최대 outIds.length개 채우고 채운 개수를 반환합니다.
+     * 점수는 nowMillis 시점으로 감쇠한 값(가중치 합, 반감기마다 절반)입니다.
+     */
+    public synchronized int findTop(LongPredicate filter, long nowMillis, long[] outIds, double[] outScores) {
+        int k = Math.min(outIds.length, outScores.length);
+        double decay = Math.exp(-lambdaPerMilli * (nowMillis - landmarkMillis));
+        int count = 0;
+        for (Counter counter : byScore.descendingSet()) {
+            if (count == k) {
+                break;
+            }
+            if (filter.test(counter.placeId)) {
+                outIds[count] = counter.placeId;
+                outScores[count] = counter.score * decay;
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public synchronized void remove(long placeId) {
+        Counter counter = counters.remove(placeId);
+        if (counter != null) {
+            byScore.remove(counter);
+        }
+    }
+
+    // 추적 중인 장소 수
+    synchronized int trackedPlaceCount() {
+        return counters.size();
+    }
+
+    @TransactionalEventListener
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        if (event.getType() == PlaceChangedEvent.Type.DELETED) {
+            remove(event.getPlaceId());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.smoking_map.smoking_map.service.place;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 장소 포인트를 Mapbox Vector Tile(protobuf, 스펙 2.1) 한 장으로 인코딩합니다.
+ * <p>
+ * 레이어 "places" 하나에 장소마다 POINT 피처 하나를 넣고, 피처 id는 장소 id, 속성은 rating(double)과
+ * reviewCount(uint)입니다. 외부 protobuf 라이브러리 없이 필요한 필드만 직접 기록합니다.
+ */
+public final class PlaceVectorTileEncoder {
+
+    public static final String LAYER_NAME = "places";
+    public static final int EXTENT = 4096;
+    static final String KEY_RATING = "rating";
+    static final String KEY_REVIEW_COUNT = "reviewCount";
+
+    // protobuf wire type
+    private static final int VARINT = 0;
+    private static final int LENGTH_DELIMITED = 2;
+    private static final int FIXED64 = 1;
+
+    private static final int GEOM_TYPE_POINT = 1;
+    private static final int COMMAND_MOVE_TO_ONE = (1 & 0x7) | (1 << 3);
+
+    private final ByteArrayOutputStream features = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream feature = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream packed = new ByteArrayOutputStream();
+    // 속성 값 테이블 (같은 값은 한 번만 기록). 키는 double 값의 비트 또는 리뷰 수
+    private final Map<Long, Integer> ratingValues = new HashMap<>();
+    private final Map<Long, Integer> reviewCountValues = new HashMap<>();
+    private final ByteArrayOutputStream values = new ByteArrayOutputStream();
+    private int valueCount = 0;
+    private int featureCount = 0;
+
+    /**
+     * 피처 하나를 추가합니다.
+     * @param tileX 타일 내부 좌표 (0~EXTENT, 버퍼 영역은 범위를 벗어날 수 있음)
+     * @param tileY 타일 내부 좌표 (위쪽이 0)
+     */
+    public void addPoint(long id, int tileX, int tileY, double rating, int reviewCount) {
+        int ratingIndex = ratingValues.computeIfAbsent(Double.doubleToLongBits(rating), bits -> addDoubleValue(rating));
+        int reviewCountIndex = reviewCountValues.computeIfAbsent((long) reviewCount, count -> addUintValue(count));
+
+        feature.reset();
+        writeTag(feature, 1, VARINT);
+        writeVarint(feature, id);
+
+        packed.reset();
+        writeVarint(packed, 0);               // key index: rating
+        writeVarint(packed, ratingIndex);
+        writeVarint(packed, 1);               // key index: reviewCount
+        writeVarint(packed, reviewCountIndex);
+        writeBytes(feature, 2, packed);
+
+        writeTag(feature, 3, VARINT);
+        writeVarint(feature, GEOM_TYPE_POINT);
+
+        packed.reset();
+        writeVarint(packed, COMMAND_MOVE_TO_ONE);
+        writeVarint(packed, zigzag(tileX));
+        writeVarint(packed, zigzag(tileY));
+        writeBytes(feature, 4, packed);
+
+        writeBytes(features, 2, feature);
+        featureCount++;
+    }
+
+    public int getFeatureCount() {
+        return featureCount;
+    }
+
+    // 피처가 없으면 빈 타일(0바이트)을 반환합니다.
+    public byte[] encode() {
+        if (featureCount == 0) {
+            return new byte[0];
+        }
+        ByteArrayOutputStream layer = new ByteArrayOutputStream(features.size() + values.size() + 64);
+        writeTag(layer, 15, VARINT);
+        writeVarint(layer, 2);
+        writeString(layer, 1, LAYER_NAME);
+        layer.writeBytes(features.toByteArray());
+        writeString(layer, 3, KEY_RATING);
+        writeString(layer, 3, KEY_REVIEW_COUNT);
+        layer.writeBytes(values.toByteArray());
+        writeTag(layer, 5, VARINT);
+        writeVarint(layer, EXTENT);
+
+        ByteArrayOutputStream tile = new ByteArrayOutputStream(layer.size() + 8);
+        writeBytes(tile, 3, layer);
+        return tile.toByteArray();
+    }
+
+    private int addDoubleValue(double value) {
+        ByteArrayOutputStream v = new ByteArrayOutputStream(10);
+        writeTag(v, 3, FIXED64);
+        long bits = Double.doubleToLongBits(value);
+        for (int i = 0; i < 8; i++) {
+            v.write((int) (bits >>> (8 * i)));
+        }
+        writeBytes(values, 4, v);
+        return valueCount++;
+    }
+
+    private int addUintValue(long value) {
+        ByteArrayOutputStream v = new ByteArrayOutputStream(10);
+        writeTag(v, 5, VARINT);
+        writeVarint(v, value);
+        writeBytes(values, 4, v);
+        return valueCount++;
+    }
+
+    private static void writeString(ByteArrayOutputStream out, int field, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeTag(out, field, LENGTH_DELIMITED);
+        writeVarint(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    private static void writeBytes(ByteArrayOutputStream out, int field, ByteArrayOutputStream value) {
+        writeTag(out, field, LENGTH_DELIMITED);
+        writeVarint(out, value.size());
+        out.writeBytes(value.toByteArray());
+    }
+
+    private static void writeTag(ByteArrayOutputStream out, int field, int wireType) {
+        writeVarint(out, ((long) field << 3) | wireType);
+    }
+
+    private static long zigzag(int value) {
+        return ((long) value << 1) ^ (value >> 31);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
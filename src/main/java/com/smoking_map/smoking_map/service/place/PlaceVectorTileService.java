@@ -0,0 +1,166 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.smoking_map.smoking_map.web.dto.PlaceResponseDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 장소 벡터 타일(MVT) 생성 및 캐시.
+ * <p>
+ * 타일은 메모리 공간 인덱스와 공유 카탈로그에서 바로 만들고(DB 조회 없음), 최근 사용 순(LRU)으로 최대
+ * MAX_CACHED_TILES장까지 보관합니다. 장소가 바뀌면 그 장소가 들어가는 타일(경계 버퍼 포함)만 줌 레벨별로 비웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlaceVectorTileService {
+
+    public static final int MAX_TILE_ZOOM = 22;
+    static final int MAX_CACHED_TILES = 4096;
+    // 타일 경계에 걸친 마커 아이콘이 잘리지 않도록 이웃 타일의 점도 이만큼(타일 좌표 단위) 포함합니다.
+    static final int BUFFER = 64;
+    private static final double MAX_MERCATOR_LAT = 85.05112878;
+
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final PlaceCatalog placeCatalog;
+
+    private final Map<Long, Tile> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Tile> eldest) {
+            return size() > MAX_CACHED_TILES;
+        }
+    };
+    // 렌더링 도중 무효화가 일어났다면 그 결과는 캐시에 넣지 않습니다 (cache 락 안에서만 변경).
+    private long generation = 0;
+
+    @Getter
+    public static final class Tile {
+        private final byte[] data;
+        private final String eTag;
+
+        Tile(byte[] data) {
+            this.data = data;
+            this.eTag = DigestUtils.md5DigestAsHex(data);
+        }
+    }
+
+    public static boolean isValidTile(int z, int x, int y) {
+        if (z < 0 || z > MAX_TILE_ZOOM) {
+            return false;
+        }
+        int tiles = 1 << z;
+        return x >= 0 && x < tiles && y >= 0 && y < tiles;
+    }
+
+    public Tile getTile(int z, int x, int y) {
+        if (!isValidTile(z, x, y)) {
+            throw new IllegalArgumentException("잘못된 타일 좌표입니다. z=" + z + ", x=" + x + ", y=" + y);
+        }
+        long key = tileKey(z, x, y);
+        long renderGeneration;
+        synchronized (cache) {
+            Tile cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+            renderGeneration = generation;
+        }
+        Tile tile = new Tile(render(z, x, y));
+        synchronized (cache) {
+            if (generation == renderGeneration) {
+                cache.put(key, tile);
+            }
+        }
+        return tile;
+    }
+
+    // 공간 인덱스/카탈로그가 먼저 갱신된 뒤에 비워야 오래된 데이터로 타일이 다시 채워지지 않습니다.
+    @Order(100)
+    @TransactionalEventListener
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        double lat = event.getPlace().getLatitude().doubleValue();
+        double lng = event.getPlace().getLongitude().doubleValue();
+        int evicted = evictTilesContaining(lat, lng);
+        log.debug("장소 {} 변경으로 타일 {}장 무효화", event.getPlaceId(), evicted);
+    }
+
+    // 모든 줌 레벨에서 (lat, lng)가 버퍼를 포함해 들어가는 타일을 캐시에서 제거합니다.
+    public int evictTilesContaining(double lat, double lng) {
+        double worldX = mercatorX(lng);
+        double worldY = mercatorY(lat);
+        double buffer = (double) BUFFER / PlaceVectorTileEncoder.EXTENT;
+        int evicted = 0;
+        synchronized (cache) {
+            generation++;
+            for (int z = 0; z <= MAX_TILE_ZOOM; z++) {
+                int tiles = 1 << z;
+                double px = worldX * tiles;
+                double py = worldY * tiles;
+                int fromX = Math.max(0, (int) Math.floor(px - buffer));
+                int toX = Math.min(tiles - 1, (int) Math.floor(px + buffer));
+                int fromY = Math.max(0, (int) Math.floor(py - buffer));
+                int toY = Math.min(tiles - 1, (int) Math.floor(py + buffer));
+                for (int x = fromX; x <= toX; x++) {
+                    for (int y = fromY; y <= toY; y++) {
+                        if (cache.remove(tileKey(z, x, y)) != null) {
+                            evicted++;
+                        }
+                    }
+                }
+            }
+        }
+        return evicted;
+    }
+
+    private byte[] render(int z, int x, int y) {
+        int tiles = 1 << z;
+        double buffer = (double) BUFFER / PlaceVectorTileEncoder.EXTENT;
+        double minLng = lngOf((x - buffer) / tiles);
+        double maxLng = lngOf((x + 1 + buffer) / tiles);
+        double maxLat = latOf((y - buffer) / tiles);
+        double minLat = latOf((y + 1 + buffer) / tiles);
+
+        PlaceVectorTileEncoder encoder = new PlaceVectorTileEncoder();
+        placeSpatialIndex.forEachInBounds(minLat, minLng, maxLat, maxLng, (id, lat, lng) -> {
+            PlaceResponseDto place = placeCatalog.find(id);
+            double rating = place != null ? place.getAverageRating() : 0.0;
+            int reviewCount = place != null ? place.getReviewCount() : 0;
+            int tileX = (int) Math.round((mercatorX(lng) * tiles - x) * PlaceVectorTileEncoder.EXTENT);
+            int tileY = (int) Math.round((mercatorY(lat) * tiles - y) * PlaceVectorTileEncoder.EXTENT);
+            encoder.addPoint(id, tileX, tileY, rating, reviewCount);
+        });
+        return encoder.encode();
+    }
+
+    // 웹 메르카토르 정규 좌표 (0~1, 왼쪽 위가 원점)
+    static double mercatorX(double lng) {
+        return (lng + 180.0) / 360.0;
+    }
+
+    static double mercatorY(double lat) {
+        double clamped = Math.max(-MAX_MERCATOR_LAT, Math.min(MAX_MERCATOR_LAT, lat));
+        double sin = Math.sin(Math.toRadians(clamped));
+        return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+    }
+
+    private static double lngOf(double mercatorX) {
+        return mercatorX * 360.0 - 180.0;
+    }
+
+    private static double latOf(double mercatorY) {
+        double n = Math.PI - 2 * Math.PI * mercatorY;
+        return Math.toDegrees(Math.atan(Math.sinh(n)));
+    }
+
+    private static long tileKey(int z, int x, int y) {
+        return ((long) z << 58) | ((long) x << 29) | y;
+    }
+}
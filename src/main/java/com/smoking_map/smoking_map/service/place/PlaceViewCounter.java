@@ -0,0 +1,90 @@
+package com.smoking_map.smoking_map.service.place;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 장소 조회수 쓰기 지연(write-behind) 집계기.
+ * <p>
+ * 조회 요청은 장소별 {@link LongAdder}(스레드 경합 시 셀이 나뉘는 카운터)만 올리고 바로 끝나며, DB 반영은
+ * 주기적으로 {@code UPDATE place SET view_count = view_count + ?} 배치 한 번으로 합니다. 같은 장소의 조회가
+ * 몰려도 행 잠금은 flush마다 한 번뿐이고, 서버가 여러 대여도 각자 증가분만 더하므로 합계가 맞습니다.
+ * 종료 시에도 남은 증가분을 반영합니다. DB의 조회수는 최대 flush 간격만큼 늦게 보입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceViewCounter {
+
+    static final String FLUSH_SQL = "UPDATE place SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public void increment(long placeId) {
+        pending.computeIfAbsent(placeId, id -> new LongAdder()).increment();
+    }
+
+    // 카운터를 유지 중인 장소 수
+    int trackedPlaceCount() {
+        return pending.size();
+    }
+
+    /**
+     * 쌓인 증가분을 배치 UPDATE 한 번으로 반영하고 반영한 장소 수를 반환합니다.
+     * 카운터는 지우지 않고 0으로 되돌리므로(sumThenReset) 그 사이의 증가는 다음 flush로 넘어갑니다.
+     * 배치는 한 트랜잭션으로 실행해 전부 반영되거나 전부 취소되므로, 실패하면 꺼낸 증가분을 모두 다시 더해 두어도
+     * 중복으로 세지 않습니다. 없는 장소 id(갱신된 행 0개)의 카운터는 버립니다.
+     */
+    @Scheduled(fixedDelayString = "${place.view-count.flush-interval-ms:10000}")
+    public synchronized int flush() {
+        List<Long> ids = new ArrayList<>();
+        List<Object[]> args = new ArrayList<>();
+        pending.forEach((id, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                ids.add(id);
+                args.add(new Object[]{delta, id});
+            }
+        });
+        if (args.isEmpty()) {
+            return 0;
+        }
+        int[] updated;
+        try {
+            updated = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, args));
+        } catch (RuntimeException e) {
+            for (Object[] arg : args) {
+                pending.computeIfAbsent((Long) arg[1], id -> new LongAdder()).add((Long) arg[0]);
+            }
+            log.warn("조회수 반영 실패, 다음 주기에 다시 시도합니다. 장소 {}개: {}", args.size(), e.getMessage());
+            return 0;
+        }
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                pending.remove(ids.get(i));
+            }
+        }
+        log.debug("조회수 반영: 장소 {}개", args.size());
+        return args.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("종료 전 조회수 반영 완료: 장소 {}개", flushed);
+    }
+}
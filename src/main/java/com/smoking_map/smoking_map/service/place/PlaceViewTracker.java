@@ -0,0 +1,171 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.smoking_map.smoking_map.domain.place.PlaceRepository;
+import com.smoking_map.smoking_map.domain.place.PlaceViewSketch;
+import com.smoking_map.smoking_map.domain.place.PlaceViewSketchRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 장소 조회 기록: 같은 세션의 반복 조회 제거 + 장소별 순 방문자(세션) 수 추정.
+ * <p>
+ * 세션+장소 조합을 {@link RotatingBloomFilter}로 기억해 window(기본 30분) 안의 새로고침/재방문은 조회수에 더하지 않고,
+ * 모든 조회는 장소별 {@link HyperLogLog}에 세션 해시로 기록합니다. 스케치는 메모리에 모았다가 주기적으로
+ * {@link PlaceViewSketch} 행에 병합(행 잠금 후 레지스터별 최댓값)하므로 서버가 여러 대여도 합집합으로 합쳐집니다.
+ * 없는 장소 id는 기록하지 않고, 장소가 삭제되면 스케치도 함께 지웁니다 (호출자가 고른 id로 메모리와 테이블이 커지지 않도록).
+ */
+@Slf4j
+@Component
+public class PlaceViewTracker {
+
+    private final PlaceViewCounter placeViewCounter;
+    private final PlaceViewSketchRepository placeViewSketchRepository;
+    private final PlaceSpatialIndex placeSpatialIndex;
+    private final PlaceRepository placeRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RotatingBloomFilter recentViews;
+
+    // 마지막 flush 이후 조회된 장소의 스케치 (flush 때 꺼내 병합)
+    private final Map<Long, HyperLogLog> pendingSketches = new ConcurrentHashMap<>();
+
+    public PlaceViewTracker(PlaceViewCounter placeViewCounter,
+                            PlaceViewSketchRepository placeViewSketchRepository,
+                            PlaceSpatialIndex placeSpatialIndex,
+                            PlaceRepository placeRepository,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${place.view-dedup.window:30m}") Duration window,
+                            @Value("${place.view-dedup.expected-views-per-window:100000}") int expectedViewsPerWindow) {
+        this.placeViewCounter = placeViewCounter;
+        this.placeViewSketchRepository = placeViewSketchRepository;
+        this.placeSpatialIndex = placeSpatialIndex;
+        this.placeRepository = placeRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.recentViews = new RotatingBloomFilter(expectedViewsPerWindow, 0.01, window.toMillis(), System.currentTimeMillis());
+    }
+
+    // window 안에 처음 본 세션+장소 조합이면 조회수를 올리고 true를 반환합니다. 없는 장소면 아무것도 기록하지 않습니다.
+    // 방문자를 알 수 없으면(sessionId == null) 중복 제거와 순 방문자 집계 없이 조회수만 올립니다.
+    public boolean record(long placeId, String sessionId) {
+        if (!isKnownPlace(placeId)) {
+            return false;
+        }
+        if (sessionId == null) {
+            placeViewCounter.increment(placeId);
+            return true;
+        }
+        long viewer = HyperLogLog.hash(sessionId);
+        // compute는 같은 키의 flush(remove)와 원자적으로 실행되므로 꺼내는 도중 기록이 사라지지 않습니다.
+        pendingSketches.compute(placeId, (id, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog();
+            target.offer(viewer);
+            return target;
+        });
+        if (!recentViews.add(HyperLogLog.mix(viewer ^ HyperLogLog.mix(placeId)), System.currentTimeMillis())) {
+            return false;
+        }
+        placeViewCounter.increment(placeId);
+        return true;
+    }
+
+    // 장소 삭제와 같은 트랜잭션에서 스케치 행을 지웁니다.
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onPlaceDeleting(PlaceChangedEvent event) {
+        if (event.getType() == PlaceChangedEvent.Type.DELETED) {
+            placeViewSketchRepository.deleteByPlaceId(event.getPlaceId());
+        }
+    }
+
+    // 공간 인덱스에서 빠진 뒤(이후 조회는 기록되지 않음) 아직 병합하지 않은 스케치를 버립니다.
+    @Order(100)
+    @TransactionalEventListener
+    public void onPlaceChanged(PlaceChangedEvent event) {
+        if (event.getType() == PlaceChangedEvent.Type.DELETED) {
+            pendingSketches.remove(event.getPlaceId());
+        }
+    }
+
+    // 장소 id → 순 방문자 추정치 (마지막 flush 기준)
+    public Map<Long, Long> findAllUniqueViewers() {
+        return placeViewSketchRepository.findAllEstimates().stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> ((Number) row[1]).longValue()));
+    }
+
+    public long findUniqueViewers(long placeId) {
+        return placeViewSketchRepository.findById(placeId).map(PlaceViewSketch::getUniqueViewers).orElse(0L);
+    }
+
+    /**
+     * 모아 둔 스케치를 DB 행에 병합하고 병합한 장소 수를 반환합니다. 실패하면 꺼낸 스케치를 다시 합쳐 둡니다.
+     */
+    @Scheduled(fixedDelayString = "${place.view-dedup.sketch-flush-interval-ms:60000}")
+    public synchronized int flushSketches() {
+        Map<Long, HyperLogLog> drained = new HashMap<>();
+        for (Long placeId : new ArrayList<>(pendingSketches.keySet())) {
+            HyperLogLog sketch = pendingSketches.remove(placeId);
+            if (sketch != null) {
+                drained.put(placeId, sketch);
+            }
+        }
+        if (drained.isEmpty()) {
+            return 0;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> mergeIntoStore(drained));
+        } catch (RuntimeException e) {
+            drained.forEach((placeId, sketch) -> pendingSketches.merge(placeId, sketch, (current, restored) -> {
+                current.merge(restored);
+                return current;
+            }));
+            log.warn("순 방문자 스케치 병합 실패, 다음 주기에 다시 시도합니다. 장소 {}개: {}", drained.size(), e.getMessage());
+            return 0;
+        }
+        log.debug("순 방문자 스케치 병합: 장소 {}개", drained.size());
+        return drained.size();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flushSketches();
+        log.info("종료 전 순 방문자 스케치 병합 완료: 장소 {}개", flushed);
+    }
+
+    // 시작 직후 공간 인덱스 적재 전에는 DB로 확인합니다.
+    private boolean isKnownPlace(long placeId) {
+        return placeSpatialIndex.isLoaded() ? placeSpatialIndex.contains(placeId) : placeRepository.existsById(placeId);
+    }
+
+    private void mergeIntoStore(Map<Long, HyperLogLog> drained) {
+        Map<Long, PlaceViewSketch> stored = placeViewSketchRepository.findAllByIdForUpdate(drained.keySet()).stream()
+                .collect(Collectors.toMap(PlaceViewSketch::getPlaceId, sketch -> sketch));
+        List<PlaceViewSketch> created = new ArrayList<>();
+        drained.forEach((placeId, sketch) -> {
+            PlaceViewSketch row = stored.get(placeId);
+            HyperLogLog merged = new HyperLogLog();
+            if (row != null) {
+                merged.merge(new HyperLogLog(row.getRegisters()));
+            }
+            merged.merge(sketch);
+            if (row != null) {
+                row.update(merged.toByteArray(), merged.estimate());
+            } else {
+                created.add(new PlaceViewSketch(placeId, merged.toByteArray(), merged.estimate()));
+            }
+        });
+        placeViewSketchRepository.saveAll(created);
+    }
+}
@@ -0,0 +1,83 @@
+package com.smoking_map.smoking_map.service.place;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 시간 창(window) 동안 본 키를 기억하는 크기 고정 Bloom 필터.
+ * <p>
+ * 현재/이전 세대 필터 두 개를 두고 window마다 이전 세대를 버리고 새 세대를 만듭니다. 키는 최소 window,
+ * 최대 2 × window 동안 "이미 봄"으로 판정됩니다. 오탐(false positive) 확률만큼 처음 보는 키도 본 것으로 판정될 수 있습니다.
+ * 메모리는 예상 키 수와 오탐 확률로 정해지며 키 수와 무관하게 일정합니다.
+ */
+final class RotatingBloomFilter {
+
+    private final int bitCount;
+    private final int hashCount;
+    private final long windowMillis;
+
+    private volatile AtomicLongArray current;
+    private volatile AtomicLongArray previous;
+    private volatile long rotateAt;
+
+    RotatingBloomFilter(int expectedKeysPerWindow, double falsePositiveRate, long windowMillis, long nowMillis) {
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedKeysPerWindow * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.bitCount = (int) Math.max(64, Math.min(bits, Integer.MAX_VALUE - 63));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedKeysPerWindow * ln2));
+        this.windowMillis = windowMillis;
+        this.current = newBits();
+        this.previous = newBits();
+        this.rotateAt = nowMillis + windowMillis;
+    }
+
+    /**
+     * 키가 현재/이전 세대 어디에도 없으면 현재 세대에 기록하고 true를 반환합니다.
+     * 같은 키가 동시에 들어오면 둘 다 true일 수 있습니다 (중복 제거는 근사치).
+     */
+    boolean add(long key, long nowMillis) {
+        if (nowMillis >= rotateAt) {
+            rotate(nowMillis);
+        }
+        AtomicLongArray cur = current;
+        if (mightContain(cur, key) || mightContain(previous, key)) {
+            return false;
+        }
+        long h2 = HyperLogLog.mix(key) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            int bit = index(key, h2, i);
+            long mask = 1L << bit;
+            cur.getAndAccumulate(bit >>> 6, mask, (word, m) -> word | m);
+        }
+        return true;
+    }
+
+    private synchronized void rotate(long nowMillis) {
+        if (nowMillis < rotateAt) {
+            return;
+        }
+        // 두 window 이상 요청이 없었다면 이전 세대도 이미 만료되었습니다.
+        previous = nowMillis >= rotateAt + windowMillis ? newBits() : current;
+        current = newBits();
+        rotateAt = nowMillis + windowMillis;
+    }
+
+    private boolean mightContain(AtomicLongArray bits, long key) {
+        long h2 = HyperLogLog.mix(key) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            int bit = index(key, h2, i);
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 이중 해싱: h1 + i * h2
+    private int index(long h1, long h2, int i) {
+        return (int) Long.remainderUnsigned(h1 + i * h2, bitCount);
+    }
+
+    private AtomicLongArray newBits() {
+        return new AtomicLongArray((bitCount + 63) >>> 6);
+    }
+}
@@ -3,8 +3,11 @@ package com.smoking_map.smoking_map.web;
 import com.smoking_map.smoking_map.service.admin.AdminService;
 import com.smoking_map.smoking_map.web.dto.admin.*;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -30,6 +33,15 @@ public class AdminApiController {
         return ResponseEntity.ok(adminService.getAllPlaces(search));
     }
 
+    // --- ▼▼▼ [추가] 전체 장소 목록 JSON 내보내기 (스트리밍) ▼▼▼ ---
+    @GetMapping("/places/export")
+    public ResponseEntity<StreamingResponseBody> exportPlaces() {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"places.json\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(adminService.exportPlaces());
+    }
+
     @GetMapping("/places/{id}/images")
     public ResponseEntity<List<AdminImageDto>> getPlaceImages(@PathVariable Long id) {
         return ResponseEntity.ok(adminService.getPlaceImages(id));
@@ -150,4 +162,4 @@ public class AdminApiController {
         return ResponseEntity.ok(adminService.getHeatmapData());
     }
 
-}
\ No newline at end of file
+}
@@ -3,9 +3,11 @@ package com.smoking_map.smoking_map.web;
 import com.smoking_map.smoking_map.service.AnnouncementService;
 import com.smoking_map.smoking_map.web.dto.AnnouncementResponseDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List; // --- ▼▼▼ [추가] import ▼▼▼ ---
 
@@ -17,8 +19,16 @@ public class AnnouncementApiController {
 
     // --- ▼▼▼ [수정] List<DTO>를 반환하도록 변경 ▼▼▼ ---
     @GetMapping("/api/v1/announcements/active")
-    public ResponseEntity<List<AnnouncementResponseDto>> getActiveAnnouncements() {
-        return ResponseEntity.ok(announcementService.getActiveAnnouncements());
+    public ResponseEntity<List<AnnouncementResponseDto>> getActiveAnnouncements(WebRequest webRequest) {
+        // --- ▼▼▼ [추가] 공지가 바뀌지 않았으면 304 ▼▼▼ ---
+        String eTag = announcementService.getActiveAnnouncementsETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(announcementService.getActiveAnnouncements());
     }
     // --- ▲▲▲ [수정] List<DTO>를 반환하도록 변경 ▲▲▲ ---
 }
\ No newline at end of file
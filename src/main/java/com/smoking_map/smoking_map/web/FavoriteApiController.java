@@ -19,20 +19,20 @@ public class FavoriteApiController {
     @PostMapping("/api/v1/places/{placeId}/favorite")
     public ResponseEntity<Void> addFavorite(@PathVariable Long placeId, @LoginUser SessionUser user) {
         if (user == null) return ResponseEntity.status(401).build();
-        favoriteService.addFavorite(user.getEmail(), placeId);
+        favoriteService.addFavorite(user.getId(), placeId);
         return ResponseEntity.ok().build();
     }
 
     @DeleteMapping("/api/v1/places/{placeId}/favorite")
     public ResponseEntity<Void> removeFavorite(@PathVariable Long placeId, @LoginUser SessionUser user) {
         if (user == null) return ResponseEntity.status(401).build();
-        favoriteService.removeFavorite(user.getEmail(), placeId);
+        favoriteService.removeFavorite(user.getId(), placeId);
         return ResponseEntity.ok().build();
     }
 
     @GetMapping("/api/v1/favorites")
     public ResponseEntity<List<PlaceResponseDto>> getFavorites(@LoginUser SessionUser user) {
         if (user == null) return ResponseEntity.status(401).build();
-        return ResponseEntity.ok(favoriteService.getFavorites(user.getEmail()));
+        return ResponseEntity.ok(favoriteService.getFavorites(user.getId()));
     }
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package com.smoking_map.smoking_map.web;
 
+import com.smoking_map.smoking_map.config.auth.CurrentUser;
 import com.smoking_map.smoking_map.config.auth.dto.SessionUser;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
@@ -21,7 +21,7 @@ import java.util.Map;
 @RestController
 public class IndexController {
 
-    private final HttpSession httpSession;
+    private final CurrentUser currentUser;
 
     @Value("${naver.api.client-id}")
     private String naverClientId;
@@ -36,7 +36,8 @@ public class IndexController {
 
     @GetMapping("/api/v1/user")
     public ResponseEntity<SessionUser> getUser() {
-        SessionUser user = (SessionUser) httpSession.getAttribute("user");
+        // 세션이 없는 방문자에게 세션을 만들지 않도록 CurrentUser로 읽습니다.
+        SessionUser user = currentUser.get();
         if (user != null) {
             return ResponseEntity.ok(user);
         }
@@ -1,21 +1,39 @@
 package com.smoking_map.smoking_map.web;
 
+import com.smoking_map.smoking_map.service.place.PlaceMarkerSnapshot;
 import com.smoking_map.smoking_map.service.place.PlaceService;
+import com.smoking_map.smoking_map.web.dto.NearbyPlaceResponseDto;
+import com.smoking_map.smoking_map.web.dto.PlaceChangesResponseDto;
+import com.smoking_map.smoking_map.web.dto.PlaceClusterDto;
+import com.smoking_map.smoking_map.web.dto.PlaceFilterDto;
 import com.smoking_map.smoking_map.web.dto.PlaceResponseDto;
 import com.smoking_map.smoking_map.web.dto.PlaceSaveRequestDto;
+import com.smoking_map.smoking_map.web.dto.PlaceSuggestionDto;
+import com.smoking_map.smoking_map.web.dto.TrendingPlaceDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.List;
 
 @RequiredArgsConstructor
 @RestController
 public class PlaceApiController {
 
+    // 응답이 사용자별(즐겨찾기)로 다르므로 공유 캐시에는 두지 않고, 브라우저는 매번 ETag로 재검증합니다.
+    private static final CacheControl REVALIDATE_PRIVATE = CacheControl.noCache().cachePrivate();
+
     private final PlaceService placeService;
+    private final PlaceMarkerSnapshot placeMarkerSnapshot;
 
     @PostMapping(value = "/api/v1/places", consumes = "multipart/form-data")
     public ResponseEntity<Long> save(@RequestPart("requestDto") PlaceSaveRequestDto requestDto,
@@ -30,21 +48,141 @@ public class PlaceApiController {
         return ResponseEntity.ok(imageUrls);
     }
 
+    // --- ▼▼▼ [수정] 기본은 지도 영역(bbox) 조회, 전체 목록은 all=true 로 명시한 경우에만 반환 ▼▼▼ ---
     @GetMapping("/api/v1/places")
-    public ResponseEntity<List<PlaceResponseDto>> findAll() {
-        return ResponseEntity.ok(placeService.findAll());
+    public ResponseEntity<List<PlaceResponseDto>> findAll(@RequestParam(required = false) BigDecimal minLat,
+                                                          @RequestParam(required = false) BigDecimal minLng,
+                                                          @RequestParam(required = false) BigDecimal maxLat,
+                                                          @RequestParam(required = false) BigDecimal maxLng,
+                                                          @RequestParam(defaultValue = "500") int limit,
+                                                          @RequestParam(defaultValue = "false") boolean all,
+                                                          @RequestParam(required = false) Double minRating,
+                                                          @RequestParam(required = false) Integer minReviews,
+                                                          @RequestParam(required = false) Boolean hasPhotos,
+                                                          @RequestParam(required = false) String sido,
+                                                          @RequestParam(required = false) String sigungu,
+                                                          @RequestParam(required = false) Integer addedWithinDays,
+                                                          WebRequest webRequest) {
+        if (all) {
+            // --- ▼▼▼ [추가] 카탈로그가 바뀌지 않았으면 304 (본문을 만들지 않음) ▼▼▼ ---
+            String eTag = placeService.getCatalogETag();
+            if (eTag != null && webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+            return withETag(ResponseEntity.ok(), eTag).body(placeService.findAll());
+        }
+        if (minLat == null || minLng == null || maxLat == null || maxLng == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        // --- ▼▼▼ [추가] 지도 필터 (평점/리뷰 수/사진/지역/최근 등록) ▼▼▼ ---
+        PlaceFilterDto filter = PlaceFilterDto.builder()
+                .minRating(minRating)
+                .minReviews(minReviews)
+                .hasPhotos(hasPhotos)
+                .sido(sido)
+                .sigungu(sigungu)
+                .addedWithinDays(addedWithinDays)
+                .build();
+        return ResponseEntity.ok(placeService.findAllInBounds(minLat, minLng, maxLat, maxLng, limit, filter));
+    }
+    // --- ▲▲▲ [수정] 기본은 지도 영역(bbox) 조회, 전체 목록은 all=true 로 명시한 경우에만 반환 ▲▲▲ ---
+
+    // --- ▼▼▼ [추가] 공유 장소 카탈로그 + 사용자별 즐겨찾기 id 목록 ▼▼▼ ---
+    @GetMapping("/api/v1/places/catalog")
+    public ResponseEntity<StreamingResponseBody> findCatalog(WebRequest webRequest) {
+        String eTag = placeService.getCatalogETag();
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return withETag(ResponseEntity.ok(), eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(placeService.streamCatalogJson());
+    }
+
+    // --- ▼▼▼ [추가] 지도 마커용 압축 바이너리 스냅샷 (포맷은 PlaceMarkerEncoder 참고) ▼▼▼ ---
+    @GetMapping("/api/v1/places/markers")
+    public ResponseEntity<byte[]> findMarkers(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                              WebRequest webRequest) {
+        PlaceMarkerSnapshot.Markers markers = placeMarkerSnapshot.getMarkers();
+        if (markers == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        // 압축 여부에 따라 본문이 다르므로 ETag도 구분합니다.
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        String eTag = gzip ? markers.getETag() + "-gz" : markers.getETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        // 모든 사용자에게 같은 내용이므로 공유 캐시도 허용합니다.
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(markers.getGzipped());
+        }
+        return builder.body(markers.getRaw());
+    }
+
+    // --- ▼▼▼ [추가] 카탈로그 델타 동기화 API (since 버전 이후 변경분) ▼▼▼ ---
+    @GetMapping("/api/v1/places/changes")
+    public ResponseEntity<PlaceChangesResponseDto> findChanges(@RequestParam long since,
+                                                               @RequestParam(defaultValue = "1000") int limit) {
+        return ResponseEntity.ok(placeService.findChangesSince(since, limit));
+    }
+
+    // --- ▼▼▼ [추가] 줌 레벨별 마커 클러스터 API ▼▼▼ ---
+    @GetMapping("/api/v1/places/clusters")
+    public ResponseEntity<List<PlaceClusterDto>> findClusters(@RequestParam double minLat,
+                                                              @RequestParam double minLng,
+                                                              @RequestParam double maxLat,
+                                                              @RequestParam double maxLng,
+                                                              @RequestParam int zoom) {
+        return ResponseEntity.ok(placeService.findClusters(minLat, minLng, maxLat, maxLng, zoom));
+    }
+
+    // --- ▼▼▼ [추가] 현재 위치 기준 가까운 장소 API ▼▼▼ ---
+    @GetMapping("/api/v1/places/nearest")
+    public ResponseEntity<List<NearbyPlaceResponseDto>> findNearest(@RequestParam double lat,
+                                                                    @RequestParam double lng,
+                                                                    @RequestParam(defaultValue = "10") int limit,
+                                                                    @RequestParam(defaultValue = "3000") double maxMeters) {
+        return ResponseEntity.ok(placeService.findNearest(lat, lng, limit, maxMeters));
     }
 
     // --- ▼▼▼ [추가] 장소 검색 API 엔드포인트 ▼▼▼ ---
     @GetMapping("/api/v1/places/search")
-    public ResponseEntity<List<PlaceResponseDto>> searchPlaces(@RequestParam String keyword) {
-        return ResponseEntity.ok(placeService.searchPlacesByKeyword(keyword));
+    public ResponseEntity<List<PlaceResponseDto>> searchPlaces(@RequestParam String keyword,
+                                                               @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(placeService.searchPlacesByKeyword(keyword, limit));
     }
     // --- ▲▲▲ [추가] 장소 검색 API 엔드포인트 ▲▲▲ ---
 
+    // --- ▼▼▼ [추가] 검색어 자동완성 API (키 입력마다 호출) ▼▼▼ ---
+    @GetMapping("/api/v1/places/autocomplete")
+    public ResponseEntity<List<PlaceSuggestionDto>> autocomplete(@RequestParam String q,
+                                                                 @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(placeService.autocomplete(q, limit));
+    }
+
+    // --- ▼▼▼ [추가] 급상승 장소 API (minLat/minLng/maxLat/maxLng를 주면 지도 영역 안에서만) ▼▼▼ ---
+    @GetMapping("/api/v1/places/trending")
+    public ResponseEntity<List<TrendingPlaceDto>> findTrending(@RequestParam(required = false) Double minLat,
+                                                               @RequestParam(required = false) Double minLng,
+                                                               @RequestParam(required = false) Double maxLat,
+                                                               @RequestParam(required = false) Double maxLng,
+                                                               @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(placeService.findTrending(minLat, minLng, maxLat, maxLng, limit));
+    }
+
     @GetMapping("/api/v1/places/{id}")
-    public ResponseEntity<PlaceResponseDto> findById(@PathVariable Long id) {
-        return ResponseEntity.ok(placeService.findById(id));
+    public ResponseEntity<PlaceResponseDto> findById(@PathVariable Long id, WebRequest webRequest) {
+        String eTag = placeService.getPlaceETag(id);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return withETag(ResponseEntity.ok(), eTag).body(placeService.findById(id));
     }
 
     @PostMapping("/api/v1/places/{id}/view")
@@ -52,4 +190,11 @@ public class PlaceApiController {
         placeService.increaseViewCount(id);
         return ResponseEntity.ok().build();
     }
-}
\ No newline at end of file
+
+    private static ResponseEntity.BodyBuilder withETag(ResponseEntity.BodyBuilder builder, String eTag) {
+        if (eTag != null) {
+            builder.eTag(eTag).cacheControl(REVALIDATE_PRIVATE);
+        }
+        return builder;
+    }
+}
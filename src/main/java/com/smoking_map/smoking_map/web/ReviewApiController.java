@@ -3,6 +3,7 @@ package com.smoking_map.smoking_map.web;
 import com.smoking_map.smoking_map.config.auth.LoginUser;
 import com.smoking_map.smoking_map.config.auth.dto.SessionUser;
 import com.smoking_map.smoking_map.service.ReviewService;
+import com.smoking_map.smoking_map.web.dto.ReviewPageResponseDto;
 import com.smoking_map.smoking_map.web.dto.ReviewRequestDto;
 import com.smoking_map.smoking_map.web.dto.ReviewResponseDto;
 import jakarta.validation.Valid;
@@ -23,7 +24,7 @@ public class ReviewApiController {
                                              @LoginUser SessionUser user,
                                              @Valid @RequestBody ReviewRequestDto requestDto) {
         if (user == null) return ResponseEntity.status(401).build();
-        Long reviewId = reviewService.createReview(user.getEmail(), placeId, requestDto);
+        Long reviewId = reviewService.createReview(user.getId(), placeId, requestDto);
         return ResponseEntity.ok(reviewId);
     }
 
@@ -31,7 +32,7 @@ public class ReviewApiController {
     public ResponseEntity<Void> deleteReview(@PathVariable Long reviewId,
                                              @LoginUser SessionUser user) {
         if (user == null) return ResponseEntity.status(401).build();
-        reviewService.deleteReview(reviewId, user.getEmail());
+        reviewService.deleteReview(reviewId, user.getId());
         return ResponseEntity.ok().build();
     }
 
@@ -42,4 +43,14 @@ public class ReviewApiController {
         String userEmail = (user != null) ? user.getEmail() : null;
         return ResponseEntity.ok(reviewService.getReviewsForPlace(placeId, userEmail));
     }
-}
\ No newline at end of file
+
+    // --- ▼▼▼ [추가] 리뷰 커서 페이지 API (최신순, 다음 페이지는 응답의 nextCursor를 after로 전달) ▼▼▼ ---
+    @GetMapping("/api/v1/places/{placeId}/reviews/page")
+    public ResponseEntity<ReviewPageResponseDto> getReviewPage(@PathVariable Long placeId,
+                                                               @RequestParam(required = false) Long after,
+                                                               @RequestParam(defaultValue = "20") int limit,
+                                                               @LoginUser SessionUser user) {
+        String userEmail = (user != null) ? user.getEmail() : null;
+        return ResponseEntity.ok(reviewService.getReviewPage(placeId, after, limit, userEmail));
+    }
+}
@@ -0,0 +1,40 @@
+package com.smoking_map.smoking_map.web;
+
+import com.smoking_map.smoking_map.service.place.PlaceVectorTileService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+@RestController
+public class TileApiController {
+
+    private static final MediaType MVT = MediaType.parseMediaType("application/vnd.mapbox-vector-tile");
+
+    private final PlaceVectorTileService placeVectorTileService;
+
+    // 장소 벡터 타일 (레이어 "places", 피처 id = 장소 id, 속성 rating / reviewCount)
+    @GetMapping("/api/v1/tiles/{z}/{x}/{y}.mvt")
+    public ResponseEntity<byte[]> getTile(@PathVariable int z, @PathVariable int x, @PathVariable int y, WebRequest webRequest) {
+        if (!PlaceVectorTileService.isValidTile(z, x, y)) {
+            return ResponseEntity.badRequest().build();
+        }
+        PlaceVectorTileService.Tile tile = placeVectorTileService.getTile(z, x, y);
+        if (webRequest.checkNotModified(tile.getETag())) {
+            return null;
+        }
+        // 사용자와 무관한 내용이므로 CDN/프록시 캐시도 허용하고, 짧은 유효 기간 뒤에는 ETag로 재검증합니다.
+        return ResponseEntity.ok()
+                .eTag(tile.getETag())
+                .cacheControl(CacheControl.maxAge(60, TimeUnit.SECONDS).cachePublic())
+                .contentType(MVT)
+                .body(tile.getData());
+    }
+}
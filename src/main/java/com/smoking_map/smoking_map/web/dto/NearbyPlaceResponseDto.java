@@ -0,0 +1,14 @@
+package com.smoking_map.smoking_map.web.dto;
+
+import lombok.Getter;
+
+@Getter
+public class NearbyPlaceResponseDto {
+    private final PlaceResponseDto place;
+    private final double distanceMeters; // 기준 좌표로부터의 직선(haversine) 거리
+
+    public NearbyPlaceResponseDto(PlaceResponseDto place, double distanceMeters) {
+        this.place = place;
+        this.distanceMeters = distanceMeters;
+    }
+}
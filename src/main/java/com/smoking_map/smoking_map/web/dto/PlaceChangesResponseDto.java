@@ -0,0 +1,21 @@
+package com.smoking_map.smoking_map.web.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// since 버전 이후의 장소 변경분 (클라이언트 델타 동기화용)
+@Getter
+public class PlaceChangesResponseDto {
+    private final long version;              // 이 응답까지 반영된 버전. 다음 요청의 since로 사용합니다.
+    private final boolean hasMore;           // true면 같은 방식으로 이어서 요청해야 합니다.
+    private final List<PlaceResponseDto> upserts;
+    private final List<Long> deletedIds;     // 삭제된 장소 id (tombstone)
+
+    public PlaceChangesResponseDto(long version, boolean hasMore, List<PlaceResponseDto> upserts, List<Long> deletedIds) {
+        this.version = version;
+        this.hasMore = hasMore;
+        this.upserts = upserts;
+        this.deletedIds = deletedIds;
+    }
+}
@@ -0,0 +1,18 @@
+package com.smoking_map.smoking_map.web.dto;
+
+import lombok.Getter;
+
+@Getter
+public class PlaceClusterDto {
+    private final double latitude;   // 클러스터에 속한 장소들의 중심(centroid)
+    private final double longitude;
+    private final int count;
+    private final Long representativePlaceId;
+
+    public PlaceClusterDto(double latitude, double longitude, int count, Long representativePlaceId) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.count = count;
+        this.representativePlaceId = representativePlaceId;
+    }
+}
@@ -0,0 +1,21 @@
+package com.smoking_map.smoking_map.web.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 지도 필터 조건. null인 조건은 적용하지 않습니다.
+@Getter
+@Builder
+public class PlaceFilterDto {
+    private final Double minRating;        // 평균 평점 하한 (이상)
+    private final Integer minReviews;      // 리뷰 수 하한 (이상)
+    private final Boolean hasPhotos;       // true면 사진이 있는 장소만, false면 사진이 없는 장소만
+    private final String sido;             // 시도 ("서울특별시", "서울" 모두 가능)
+    private final String sigungu;          // 시군구 ("강남구")
+    private final Integer addedWithinDays; // 최근 N일 이내 등록
+
+    public boolean isEmpty() {
+        return minRating == null && minReviews == null && hasPhotos == null
+                && sido == null && sigungu == null && addedWithinDays == null;
+    }
+}
@@ -4,7 +4,11 @@ import com.smoking_map.smoking_map.domain.place.Place;
 import lombok.Getter;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Getter
 public class PlaceResponseDto {
@@ -48,4 +52,57 @@ public class PlaceResponseDto {
         this.averageRating = entity.getAverageRating();
         this.reviewCount = entity.getReviewCount();
     }
-}
\ No newline at end of file
+
+    // --- ▼▼▼ [추가] 공유 카탈로그의 DTO에 사용자별 즐겨찾기 여부만 바꿔 복사하는 생성자 ▼▼▼ ---
+    public PlaceResponseDto(PlaceResponseDto source, boolean isFavorited) {
+        this.id = source.id;
+        this.latitude = source.latitude;
+        this.longitude = source.longitude;
+        this.originalAddress = source.originalAddress;
+        this.roadAddress = source.roadAddress;
+        this.description = source.description;
+        this.imageUrls = source.imageUrls;
+        this.isFavorited = isFavorited;
+        this.averageRating = source.averageRating;
+        this.reviewCount = source.reviewCount;
+    }
+
+    // --- ▼▼▼ [추가] 프로젝션 조회 결과(장소 행 + 이미지 행)로 만드는 생성자 ▼▼▼ ---
+    private PlaceResponseDto(Object[] row, List<String> imageUrls, boolean isFavorited) {
+        this.id = ((Number) row[0]).longValue();
+        this.latitude = (BigDecimal) row[1];
+        this.longitude = (BigDecimal) row[2];
+        this.originalAddress = (String) row[3];
+        this.roadAddress = (String) row[4];
+        this.description = (String) row[5];
+        this.imageUrls = imageUrls;
+        this.isFavorited = isFavorited;
+        this.averageRating = ((Number) row[6]).doubleValue();
+        this.reviewCount = ((Number) row[7]).intValue();
+    }
+
+    /**
+     * PlaceQueryRepository의 장소 행과 이미지 행을 메모리에서 합칩니다. 결과는 장소 행 순서를 따릅니다.
+     * @param favoritedPlaceIds 즐겨찾기 여부를 true로 표시할 장소 id
+     */
+    public static List<PlaceResponseDto> fromRows(List<Object[]> placeRows, List<Object[]> imageRows, Set<Long> favoritedPlaceIds) {
+        Map<Long, List<String>> imageUrlsByPlaceId = new HashMap<>();
+        for (Object[] imageRow : imageRows) {
+            imageUrlsByPlaceId.computeIfAbsent(((Number) imageRow[0]).longValue(), id -> new ArrayList<>())
+                    .add((String) imageRow[1]);
+        }
+        List<PlaceResponseDto> places = new ArrayList<>(placeRows.size());
+        for (Object[] placeRow : placeRows) {
+            long id = ((Number) placeRow[0]).longValue();
+            places.add(new PlaceResponseDto(placeRow,
+                    imageUrlsByPlaceId.getOrDefault(id, new ArrayList<>()),
+                    favoritedPlaceIds.contains(id)));
+        }
+        return places;
+    }
+
+    // 장소 행 하나와 그 장소의 이미지 URL로 만듭니다 (스트리밍 응답용)
+    public static PlaceResponseDto fromRow(Object[] placeRow, List<String> imageUrls, boolean isFavorited) {
+        return new PlaceResponseDto(placeRow, imageUrls, isFavorited);
+    }
+}
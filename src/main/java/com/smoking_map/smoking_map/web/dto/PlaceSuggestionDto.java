@@ -0,0 +1,14 @@
+package com.smoking_map.smoking_map.web.dto;
+
+import lombok.Getter;
+
+@Getter
+public class PlaceSuggestionDto {
+    private final String text;       // 자동완성된 검색어 (그대로 검색 API의 keyword로 사용)
+    private final int placeCount;    // 이 단어가 주소/설명에 들어 있는 장소 수
+
+    public PlaceSuggestionDto(String text, int placeCount) {
+        this.text = text;
+        this.placeCount = placeCount;
+    }
+}
@@ -0,0 +1,17 @@
+package com.smoking_map.smoking_map.web.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+// 장소 리뷰 커서 페이지 (최신순)
+@Getter
+public class ReviewPageResponseDto {
+    private final List<ReviewResponseDto> reviews;
+    private final Long nextCursor; // 다음 페이지 요청의 after 값. 마지막 페이지면 null
+
+    public ReviewPageResponseDto(List<ReviewResponseDto> reviews, Long nextCursor) {
+        this.reviews = reviews;
+        this.nextCursor = nextCursor;
+    }
+}
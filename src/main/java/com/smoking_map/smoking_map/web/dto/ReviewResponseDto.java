@@ -2,6 +2,8 @@ package com.smoking_map.smoking_map.web.dto;
 
 import com.smoking_map.smoking_map.domain.review.Review;
 import lombok.Getter;
+
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 @Getter
@@ -15,16 +17,28 @@ public class ReviewResponseDto {
     private final boolean writtenByCurrentUser;
 
     public ReviewResponseDto(Review review, boolean writtenByCurrentUser) {
-        this.id = review.getId();
-        this.rating = review.getRating();
-        this.comment = review.getComment();
-        this.createdAt = review.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
+        this(review.getId(), review.getRating(), review.getComment(), review.getCreatedAt(),
+                review.getUser().getName(), review.getUser().getPicture(), writtenByCurrentUser);
+    }
+
+    // --- ▼▼▼ [추가] ReviewRepository.findReviewRowsByPlaceId 행으로 생성 (엔티티/작성자 지연 로딩 없음) ▼▼▼ ---
+    public static ReviewResponseDto fromRow(Object[] row, String currentUserEmail) {
+        return new ReviewResponseDto((Long) row[0], (Integer) row[1], (String) row[2], (LocalDateTime) row[3],
+                (String) row[4], (String) row[5], currentUserEmail != null && currentUserEmail.equals(row[6]));
+    }
+
+    private ReviewResponseDto(Long id, int rating, String comment, LocalDateTime createdAt,
+                              String userName, String userPicture, boolean writtenByCurrentUser) {
+        this.id = id;
+        this.rating = rating;
+        this.comment = comment;
+        this.createdAt = createdAt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
         this.writtenByCurrentUser = writtenByCurrentUser;
 
         // --- ▼▼▼ [수정] 익명 처리 로직 복원 ▼▼▼ ---
         if (writtenByCurrentUser) {
-            this.userName = review.getUser().getName();
-            this.userPicture = review.getUser().getPicture();
+            this.userName = userName;
+            this.userPicture = userPicture;
         } else {
             this.userName = "익명";
             // 깨진 이미지를 유발했던 경로. 프론트엔드에서 이 경로를 사용하지 않도록 할 것입니다.
@@ -32,4 +46,4 @@ public class ReviewResponseDto {
         }
         // --- ▲▲▲ [수정] 익명 처리 로직 복원 ▲▲▲ ---
     }
-}
\ No newline at end of file
+}
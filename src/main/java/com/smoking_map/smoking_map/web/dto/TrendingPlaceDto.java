@@ -0,0 +1,14 @@
+package com.smoking_map.smoking_map.web.dto;
+
+import lombok.Getter;
+
+@Getter
+public class TrendingPlaceDto {
+    private final PlaceResponseDto place;
+    private final double score; // 조회/즐겨찾기/리뷰 가중치를 시간 감쇠해 더한 값
+
+    public TrendingPlaceDto(PlaceResponseDto place, double score) {
+        this.place = place;
+        this.score = score;
+    }
+}
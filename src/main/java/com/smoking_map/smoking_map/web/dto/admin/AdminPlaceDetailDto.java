@@ -14,8 +14,10 @@ public class AdminPlaceDetailDto {
     private final String creatorEmail;
     private final List<AdminEditRequestDto> editRequests;
     private final List<AdminReviewDto> reviews; // --- ▼▼▼ [추가] 관리자용 리뷰 목록 필드 ▼▼▼ ---
+    private final int viewCount;
+    private final long uniqueViewers; // 순 방문자(세션) 추정치, HyperLogLog
 
-    public AdminPlaceDetailDto(Place place) {
+    public AdminPlaceDetailDto(Place place, long uniqueViewers) {
         this.id = place.getId();
         this.roadAddress = place.getRoadAddress();
         this.description = place.getDescription();
@@ -27,5 +29,7 @@ public class AdminPlaceDetailDto {
         this.reviews = place.getReviews().stream()
                 .map(AdminReviewDto::new)
                 .collect(Collectors.toList());
+        this.viewCount = place.getViewCount();
+        this.uniqueViewers = uniqueViewers;
     }
 }
\ No newline at end of file
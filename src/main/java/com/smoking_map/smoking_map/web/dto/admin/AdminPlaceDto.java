@@ -1,6 +1,5 @@
 package com.smoking_map.smoking_map.web.dto.admin;
 
-import com.smoking_map.smoking_map.domain.place.Place;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -17,23 +16,35 @@ public class AdminPlaceDto {
     private final int favoriteCount; // --- ▼▼▼ [추가] 즐겨찾기 수 필드 ▼▼▼ ---
     private final int reviewCount; // --- ▼▼▼ [추가] 리뷰 수 필드 ▼▼▼ ---
     private final int editRequestCount;
+    private final long uniqueViewers; // 순 방문자(세션) 추정치, HyperLogLog
 
-    public AdminPlaceDto(Place place, int favoriteCount, int reviewCount, int editRequestCount) {
-        this.id = place.getId();
-        this.roadAddress = place.getRoadAddress();
-        this.description = place.getDescription();
-        this.imageCount = place.getImageUrls().size();
-        this.creatorEmail = (place.getUser() != null) ? place.getUser().getEmail() : "N/A";
-
-        LocalDateTime createdAtValue = place.getCreatedAt();
-        if (createdAtValue != null) {
-            this.createdAt = createdAtValue.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm"));
-        } else {
-            this.createdAt = "N/A";
-        }
+    // --- ▼▼▼ [추가] 관리자 장소 행(PlaceQueryRepository.ADMIN_PLACE_FROM)으로 생성 ▼▼▼ ---
+    public static AdminPlaceDto fromRow(Object[] row) {
+        return new AdminPlaceDto(
+                ((Number) row[0]).longValue(),
+                (String) row[1],
+                (String) row[2],
+                ((Number) row[3]).intValue(),
+                (String) row[4],
+                (LocalDateTime) row[5],
+                ((Number) row[6]).intValue(),
+                ((Number) row[7]).intValue(),
+                ((Number) row[8]).intValue(),
+                row[9] != null ? ((Number) row[9]).longValue() : 0L);
+    }
 
+    // --- ▼▼▼ [추가] 내보내기 스트리밍용: 엔티티 대신 조회한 값으로 생성 ▼▼▼ ---
+    public AdminPlaceDto(Long id, String roadAddress, String description, int imageCount, String creatorEmail,
+                         LocalDateTime createdAt, int favoriteCount, int reviewCount, int editRequestCount, long uniqueViewers) {
+        this.id = id;
+        this.roadAddress = roadAddress;
+        this.description = description;
+        this.imageCount = imageCount;
+        this.creatorEmail = creatorEmail != null ? creatorEmail : "N/A";
+        this.createdAt = createdAt != null ? createdAt.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm")) : "N/A";
         this.favoriteCount = favoriteCount;
-        this.reviewCount = reviewCount; // 이 라인이 정상적으로 동작하도록 수정됨
+        this.reviewCount = reviewCount;
         this.editRequestCount = editRequestCount;
+        this.uniqueViewers = uniqueViewers;
     }
 }
\ No newline at end of file
@@ -24,7 +24,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import io.awspring.cloud.s3.S3Template; // S3Template을 MockBean으로 사용하기 위해 추가
 
-@SpringBootTest // 전체 Spring 애플리케이션 컨텍스트를 로드합니다.
+@SpringBootTest(properties = "visitor.cookie-secret=test-secret") // 전체 Spring 애플리케이션 컨텍스트를 로드합니다.
 public class DatabaseUpgradeTest {
 
     @MockBean // S3Template을 MockBean으로 등록하여 실제 S3 연결 없이 테스트 가능하게 함
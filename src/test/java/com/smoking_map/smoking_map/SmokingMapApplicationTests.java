@@ -3,7 +3,7 @@ package com.smoking_map.smoking_map;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "visitor.cookie-secret=test-secret")
 class SmokingMapApplicationTests {
 
     @Test
@@ -0,0 +1,69 @@
+package com.smoking_map.smoking_map.config.auth;
+
+import com.smoking_map.smoking_map.config.auth.dto.SessionUser;
+import com.smoking_map.smoking_map.domain.user.Role;
+import com.smoking_map.smoking_map.domain.user.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CurrentUserTest {
+
+    private final UserIdCache userIdCache = mock(UserIdCache.class);
+
+    @Test
+    void usesIdStoredInSession() {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("user", new SessionUser(user(7L)));
+
+        CurrentUser currentUser = new CurrentUser(request(session), userIdCache);
+        assertEquals(Optional.of(7L), currentUser.getId());
+        assertEquals("USER", currentUser.get().getRole());
+        verifyNoInteractions(userIdCache);
+    }
+
+    @Test
+    void fillsMissingIdOnceAndStoresItInSession() {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("user", new SessionUser(user(null)));
+        when(userIdCache.findIdByEmail("user@example.com")).thenReturn(Optional.of(7L));
+
+        CurrentUser currentUser = new CurrentUser(request(session), userIdCache);
+        assertEquals(Optional.of(7L), currentUser.getId());
+        assertEquals(7L, currentUser.get().getId());
+        assertEquals(7L, ((SessionUser) session.getAttribute("user")).getId());
+        // 요청 안에서는 한 번만 해석합니다.
+        verify(userIdCache, times(1)).findIdByEmail("user@example.com");
+    }
+
+    @Test
+    void unknownOrMissingUserIsAnonymous() {
+        // 세션이 없는 요청에는 세션을 만들지 않습니다.
+        MockHttpServletRequest anonymous = new MockHttpServletRequest();
+        assertNull(new CurrentUser(anonymous, userIdCache).get());
+        assertNull(anonymous.getSession(false));
+
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("user", new SessionUser(user(null)));
+        when(userIdCache.findIdByEmail("user@example.com")).thenReturn(Optional.empty());
+        assertEquals(Optional.empty(), new CurrentUser(request(session), userIdCache).getId());
+    }
+
+    private static MockHttpServletRequest request(MockHttpSession session) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setSession(session);
+        return request;
+    }
+
+    private static User user(Long id) {
+        User user = User.builder().name("user").email("user@example.com").role(Role.USER).build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,50 @@
+package com.smoking_map.smoking_map.config.session;
+
+import com.smoking_map.smoking_map.config.auth.dto.SessionUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactSessionSerializerTest {
+
+    private final CompactSessionSerializer serializer = new CompactSessionSerializer();
+
+    @Test
+    void sessionUserRoundTripIsSmallerThanJdk() {
+        SessionUser user = new SessionUser(42L, "흡연자", "user@example.com", null, "USER");
+        byte[] bytes = serializer.serialize(user);
+        SessionUser read = (SessionUser) serializer.deserialize(bytes);
+
+        assertEquals(42L, read.getId());
+        assertEquals("흡연자", read.getName());
+        assertEquals("user@example.com", read.getEmail());
+        assertNull(read.getPicture());
+        assertEquals("USER", read.getRole());
+        assertTrue(bytes.length * 4 < new JdkSerializationRedisSerializer().serialize(user).length);
+
+        SessionUser withoutId = (SessionUser) serializer.deserialize(serializer.serialize(
+                new SessionUser(null, "이름", "a@example.com", "https://example.com/p.png", "ADMIN")));
+        assertNull(withoutId.getId());
+        assertEquals("https://example.com/p.png", withoutId.getPicture());
+    }
+
+    @Test
+    void sessionMetadataAndOtherValues() {
+        assertEquals(1_700_000_000_000L, serializer.deserialize(serializer.serialize(1_700_000_000_000L)));
+        assertEquals(7_776_000, serializer.deserialize(serializer.serialize(7_776_000)));
+        assertEquals("값", serializer.deserialize(serializer.serialize("값")));
+        assertEquals(9, serializer.serialize(1L).length);
+
+        // 그 밖의 값은 JDK 직렬화로 저장합니다.
+        List<String> list = new ArrayList<>(List.of("a", "b"));
+        assertEquals(list, serializer.deserialize(serializer.serialize(list)));
+
+        assertEquals(0, serializer.serialize(null).length);
+        assertNull(serializer.deserialize(new byte[0]));
+        assertNull(serializer.deserialize(null));
+    }
+}
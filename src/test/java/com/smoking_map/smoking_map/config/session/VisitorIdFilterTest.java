@@ -0,0 +1,63 @@
+package com.smoking_map.smoking_map.config.session;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VisitorIdFilterTest {
+
+    private final VisitorIdFilter filter = new VisitorIdFilter("test-secret", Duration.ofDays(365), new MockEnvironment());
+
+    @Test
+    void issuesSignedCookieWithoutSession() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+
+        String visitorId = VisitorIdFilter.getVisitorId(request);
+        assertNotNull(visitorId);
+        assertNull(request.getSession(false));
+        String setCookie = response.getHeader(HttpHeaders.SET_COOKIE);
+        assertTrue(setCookie.startsWith(VisitorIdFilter.COOKIE_NAME + "=" + visitorId + "."));
+        assertTrue(setCookie.contains("HttpOnly"));
+    }
+
+    @Test
+    void keepsValidCookieAndReplacesForgedOne() throws Exception {
+        String id = "visitor-a";
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(VisitorIdFilter.COOKIE_NAME, id + "." + filter.sign(id)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        assertEquals(id, VisitorIdFilter.getVisitorId(request));
+        assertNull(response.getHeader(HttpHeaders.SET_COOKIE));
+
+        // 다른 id에 서명을 옮겨 붙이거나, 다른 키로 서명한 쿠키는 새 id로 바꿉니다.
+        assertNull(filter.verify("visitor-b." + filter.sign(id)));
+        assertNull(filter.verify(id + "." + new VisitorIdFilter("other-secret", Duration.ofDays(1), new MockEnvironment()).sign(id)));
+        assertNull(filter.verify(id + ".!!"));
+        assertNull(filter.verify(id));
+
+        MockHttpServletRequest forged = new MockHttpServletRequest();
+        forged.setCookies(new Cookie(VisitorIdFilter.COOKIE_NAME, "visitor-b." + filter.sign(id)));
+        filter.doFilter(forged, new MockHttpServletResponse(), new MockFilterChain());
+        assertNotEquals("visitor-b", VisitorIdFilter.getVisitorId(forged));
+    }
+
+    @Test
+    void requiresSecretOutsideLocalAndTestProfiles() {
+        assertThrows(IllegalStateException.class, () -> new VisitorIdFilter("", Duration.ofDays(1), new MockEnvironment()));
+
+        MockEnvironment local = new MockEnvironment();
+        local.setActiveProfiles("local");
+        assertNotNull(new VisitorIdFilter("", Duration.ofDays(1), local).sign("visitor-a"));
+    }
+}
@@ -0,0 +1,135 @@
+package com.smoking_map.smoking_map.domain.place;
+
+import com.smoking_map.smoking_map.domain.favorite.Favorite;
+import com.smoking_map.smoking_map.domain.favorite.FavoriteRepository;
+import com.smoking_map.smoking_map.domain.user.Role;
+import com.smoking_map.smoking_map.domain.user.User;
+import com.smoking_map.smoking_map.domain.user.UserRepository;
+import com.smoking_map.smoking_map.web.dto.PlaceResponseDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 장소 수와 관계없이 목록 조회가 항상 쿼리 2개로 끝나는지 Hibernate 통계로 확인합니다.
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PlaceQueryRepositoryTest {
+
+    @Autowired
+    private PlaceQueryRepository placeQueryRepository;
+    @Autowired
+    private PlaceRepository placeRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private FavoriteRepository favoriteRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private int placeSequence = 0;
+
+    @Test
+    void statementCountDoesNotGrowWithPlaces() {
+        User user = userRepository.save(User.builder().name("Tester").email("tester@example.com").role(Role.USER).build());
+
+        savePlaces(user, 3);
+        long few = countStatements(() -> placeQueryRepository.findAllPlaceRows().size()
+                + placeQueryRepository.findAllImageRows().size());
+        long fewSearch = countStatements(() -> searchAll().size());
+        long fewFavorites = countStatements(() -> favorites(user).size());
+
+        savePlaces(user, 30);
+        List<PlaceResponseDto> places = PlaceResponseDto.fromRows(
+                placeQueryRepository.findAllPlaceRows(), placeQueryRepository.findAllImageRows(), Set.of());
+        long many = countStatements(() -> placeQueryRepository.findAllPlaceRows().size()
+                + placeQueryRepository.findAllImageRows().size());
+
+        assertEquals(33, places.size());
+        assertEquals(2, few);
+        assertEquals(few, many);
+        assertEquals(2, fewSearch);
+        assertEquals(fewSearch, countStatements(() -> searchAll().size()));
+        assertEquals(2, fewFavorites);
+        assertEquals(fewFavorites, countStatements(() -> favorites(user).size()));
+
+        // 기존 방식(엔티티 조회 후 getImageUrls)은 장소마다 이미지 조회가 1번씩 더 나갑니다.
+        long entityPath = countStatements(() -> placeRepository.findAll().stream().map(PlaceResponseDto::new).count());
+        assertEquals(1 + 33, entityPath);
+    }
+
+    @Test
+    void imagesAndFavoritesAreMergedPerPlace() {
+        User user = userRepository.save(User.builder().name("Tester").email("merge@example.com").role(Role.USER).build());
+        savePlaces(user, 2);
+
+        List<PlaceResponseDto> favorites = favorites(user);
+
+        assertEquals(2, favorites.size());
+        for (PlaceResponseDto place : favorites) {
+            assertTrue(place.isFavorited());
+            assertEquals(List.of(
+                    "https://example.com/" + place.getDescription() + "_main.jpg",
+                    "https://example.com/" + place.getDescription() + "_1.jpg"), place.getImageUrls());
+        }
+    }
+
+    private List<PlaceResponseDto> searchAll() {
+        return PlaceResponseDto.fromRows(
+                placeQueryRepository.findPlaceRowsByAddressKeyword("테헤란로"),
+                placeQueryRepository.findImageRowsByAddressKeyword("테헤란로"),
+                Set.of());
+    }
+
+    private List<PlaceResponseDto> favorites(User user) {
+        List<Object[]> rows = placeQueryRepository.findFavoritePlaceRowsByUserId(user.getId());
+        Set<Long> ids = rows.stream().map(row -> ((Number) row[0]).longValue()).collect(Collectors.toSet());
+        return PlaceResponseDto.fromRows(rows, placeQueryRepository.findFavoriteImageRowsByUserId(user.getId()), ids);
+    }
+
+    // 장소마다 이미지 2장(두 번째가 대표 이미지)과 즐겨찾기 1개
+    private void savePlaces(User user, int count) {
+        for (int i = 0; i < count; i++) {
+            String name = "place" + (++placeSequence);
+            Place place = Place.builder()
+                    .latitude(BigDecimal.valueOf(37.5))
+                    .longitude(BigDecimal.valueOf(127.0))
+                    .originalAddress("서울특별시 강남구 테헤란로 " + i)
+                    .roadAddress("서울특별시 강남구 테헤란로 " + i)
+                    .description(name)
+                    .user(user)
+                    .build();
+            place.addImageInfo(ImageInfo.builder().imageUrl("https://example.com/" + name + "_1.jpg").build());
+            ImageInfo representative = ImageInfo.builder().imageUrl("https://example.com/" + name + "_main.jpg").build();
+            representative.setRepresentative(true);
+            place.addImageInfo(representative);
+            placeRepository.save(place);
+            favoriteRepository.save(Favorite.builder().user(user).place(place).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long countStatements(Supplier<Number> query) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        assertNotNull(query.get());
+        return statistics.getPrepareStatementCount();
+    }
+}
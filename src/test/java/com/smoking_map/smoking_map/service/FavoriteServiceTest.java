@@ -0,0 +1,75 @@
+package com.smoking_map.smoking_map.service;
+
+import com.smoking_map.smoking_map.domain.place.Place;
+import com.smoking_map.smoking_map.domain.place.PlaceRepository;
+import com.smoking_map.smoking_map.domain.user.Role;
+import com.smoking_map.smoking_map.domain.user.User;
+import com.smoking_map.smoking_map.domain.user.UserRepository;
+import com.smoking_map.smoking_map.service.place.PlaceTrendTracker;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({FavoriteService.class, PlaceTrendTracker.class})
+class FavoriteServiceTest {
+
+    @Autowired
+    private FavoriteService favoriteService;
+    @Autowired
+    private PlaceRepository placeRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockBean
+    private FavoriteSetCache favoriteSetCache;
+
+    @Test
+    void togglesAreIdempotent() {
+        User user = userRepository.save(User.builder().name("user").email("user@example.com").role(Role.USER).build());
+        long placeId = placeRepository.saveAndFlush(Place.builder()
+                .latitude(new BigDecimal("37.50000000"))
+                .longitude(new BigDecimal("127.00000000"))
+                .originalAddress("서울특별시 강남구 역삼동")
+                .roadAddress("서울특별시 강남구 테헤란로")
+                .build()).getId();
+
+        favoriteService.addFavorite(user.getId(), placeId);
+        favoriteService.addFavorite(user.getId(), placeId);
+        assertEquals(1, favoriteCount(user.getId()));
+        assertEquals(1, placeFavoriteCount(placeId));
+        // 실제로 추가된 한 번만 캐시에 반영합니다.
+        verify(favoriteSetCache, times(1)).added(user.getId(), placeId);
+
+        favoriteService.removeFavorite(user.getId(), placeId);
+        favoriteService.removeFavorite(user.getId(), placeId);
+        assertEquals(0, favoriteCount(user.getId()));
+        assertEquals(0, placeFavoriteCount(placeId));
+        verify(favoriteSetCache, times(1)).removed(user.getId(), placeId);
+
+        assertThrows(IllegalArgumentException.class, () -> favoriteService.addFavorite(user.getId(), Long.MAX_VALUE));
+        verify(favoriteSetCache, never()).added(anyLong(), eq(Long.MAX_VALUE));
+
+        // 없어진 사용자(오래된 세션)는 외래 키 오류가 아니라 잘못된 요청이고, 즐겨찾기 수도 바뀌지 않습니다.
+        assertThrows(IllegalArgumentException.class, () -> favoriteService.addFavorite(Long.MAX_VALUE, placeId));
+        assertEquals(0, placeFavoriteCount(placeId));
+        verify(favoriteSetCache, never()).added(eq(Long.MAX_VALUE), anyLong());
+    }
+
+    private int favoriteCount(long userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM favorite WHERE user_id = ?", Integer.class, userId);
+    }
+
+    private int placeFavoriteCount(long placeId) {
+        return jdbcTemplate.queryForObject("SELECT favorite_count FROM place WHERE id = ?", Integer.class, placeId);
+    }
+}
@@ -0,0 +1,185 @@
+package com.smoking_map.smoking_map.service;
+
+import com.smoking_map.smoking_map.domain.edit_request.EditRequestRepository;
+import com.smoking_map.smoking_map.domain.edit_request.RequestStatus;
+import com.smoking_map.smoking_map.domain.place.Place;
+import com.smoking_map.smoking_map.domain.place.PlaceRepository;
+import com.smoking_map.smoking_map.domain.user.Role;
+import com.smoking_map.smoking_map.domain.user.User;
+import com.smoking_map.smoking_map.domain.user.UserRepository;
+import com.smoking_map.smoking_map.service.place.PlaceTrendTracker;
+import com.smoking_map.smoking_map.web.dto.ReviewRequestDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 스레드마다 별도 트랜잭션으로 커밋해야 하므로 테스트 트랜잭션을 쓰지 않습니다.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ReviewService.class, PlaceStatsReconciler.class, PlaceTrendTracker.class})
+class PlaceStatsConcurrencyTest {
+
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private PlaceStatsReconciler placeStatsReconciler;
+    @Autowired
+    private PlaceRepository placeRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EditRequestRepository editRequestRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void parallelReviewsOnOnePlaceAreAllCounted() throws Exception {
+        long placeId = savePlace();
+        int threads = 8;
+        int reviewsPerThread = 10;
+        List<Long> userIds = saveUsers("parallel", threads * reviewsPerThread);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < reviewsPerThread; i++) {
+                    int n = thread * reviewsPerThread + i;
+                    reviewService.createReview(userIds.get(n), placeId, review(1 + n % 5));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // 평점 1~5가 16번씩: 합계 240, 평균 3.0
+        Map<String, Object> stats = stats(placeId);
+        assertEquals(80, ((Number) stats.get("review_count")).intValue());
+        assertEquals(240L, ((Number) stats.get("rating_sum")).longValue());
+        assertEquals(3.0, ((Number) stats.get("average_rating")).doubleValue(), 1e-3);
+        assertFalse(placeStatsReconciler.findDriftedPlaceIds().contains(placeId));
+    }
+
+    @Test
+    void deleteDecrementsAndReconcileRepairsDrift() {
+        long placeId = savePlace();
+        List<Long> userIds = saveUsers("delete", 2);
+        Long first = reviewService.createReview(userIds.get(0), placeId, review(5));
+        reviewService.createReview(userIds.get(1), placeId, review(2));
+        // 없어진 사용자(오래된 세션)의 리뷰는 외래 키 오류가 아니라 잘못된 요청이고, 통계도 바뀌지 않습니다.
+        assertThrows(IllegalArgumentException.class, () -> reviewService.createReview(Long.MAX_VALUE, placeId, review(1)));
+
+        assertThrows(IllegalStateException.class, () -> reviewService.deleteReview(first, userIds.get(1)));
+        reviewService.deleteReview(first, userIds.get(0));
+        Map<String, Object> stats = stats(placeId);
+        assertEquals(1, ((Number) stats.get("review_count")).intValue());
+        assertEquals(2L, ((Number) stats.get("rating_sum")).longValue());
+        assertEquals(2.0, ((Number) stats.get("average_rating")).doubleValue(), 1e-3);
+
+        // 통계가 어긋나면(직접 수정 등) 보정 작업이 원본 테이블 기준으로 되돌립니다.
+        jdbcTemplate.update("UPDATE place SET review_count = 7, rating_sum = 30, average_rating = 4.3,"
+                + " favorite_count = 3, pending_edit_count = 2 WHERE id = ?", placeId);
+        assertTrue(placeStatsReconciler.findDriftedPlaceIds().contains(placeId));
+        assertTrue(placeStatsReconciler.reconcile() >= 1);
+        stats = stats(placeId);
+        assertEquals(1, ((Number) stats.get("review_count")).intValue());
+        assertEquals(2L, ((Number) stats.get("rating_sum")).longValue());
+        assertEquals(2.0, ((Number) stats.get("average_rating")).doubleValue(), 1e-3);
+        assertEquals(0, ((Number) stats.get("favorite_count")).intValue());
+        assertEquals(0, ((Number) stats.get("pending_edit_count")).intValue());
+        assertFalse(placeStatsReconciler.findDriftedPlaceIds().contains(placeId));
+    }
+
+    @Test
+    void adminDescriptionEditKeepsCountersWrittenMeanwhile() {
+        long placeId = savePlace();
+        List<Long> userIds = saveUsers("admin", 3);
+        reviewService.createReview(userIds.get(0), placeId, review(4));
+
+        // AdminService.updatePlaceDescription과 같은 순서: 장소를 읽어 설명을 바꾸고, 수정 제안 일괄 처리 UPDATE가 flush를 일으킵니다.
+        // 장소를 읽은 뒤 커밋 전에 다른 트랜잭션에서 리뷰 두 개, 즐겨찾기, 수정 제안, 조회수 반영이 먼저 커밋됩니다.
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            Place place = placeRepository.findById(placeId).orElseThrow();
+            place.updateDescription("관리자 수정");
+            CompletableFuture.runAsync(() -> {
+                reviewService.createReview(userIds.get(1), placeId, review(2));
+                reviewService.createReview(userIds.get(2), placeId, review(3));
+                transactionTemplate.executeWithoutResult(inner -> {
+                    placeRepository.addFavoriteCount(placeId, 1);
+                    placeRepository.addPendingEditCount(placeId, 1);
+                });
+                jdbcTemplate.update("UPDATE place SET view_count = view_count + ? WHERE id = ?", 5, placeId);
+            }).join();
+            editRequestRepository.updateStatusByPlaceId(placeId, RequestStatus.PENDING, RequestStatus.REVIEWED);
+        });
+
+        // 설명 수정은 description 컬럼만 UPDATE하므로 그 사이 반영된 카운터가 보정 작업 없이도 남아 있어야 합니다.
+        Map<String, Object> stats = stats(placeId);
+        assertEquals(3, ((Number) stats.get("review_count")).intValue());
+        assertEquals(9L, ((Number) stats.get("rating_sum")).longValue());
+        assertEquals(3.0, ((Number) stats.get("average_rating")).doubleValue(), 1e-3);
+        assertEquals(1, ((Number) stats.get("favorite_count")).intValue());
+        assertEquals(1, ((Number) stats.get("pending_edit_count")).intValue());
+        assertEquals(5, jdbcTemplate.queryForObject("SELECT view_count FROM place WHERE id = ?", Integer.class, placeId));
+        assertEquals("관리자 수정", jdbcTemplate.queryForObject("SELECT description FROM place WHERE id = ?", String.class, placeId));
+    }
+
+    private long savePlace() {
+        Place place = placeRepository.saveAndFlush(Place.builder()
+                .latitude(new BigDecimal("37.50000000"))
+                .longitude(new BigDecimal("127.00000000"))
+                .originalAddress("서울특별시 강남구 역삼동")
+                .roadAddress("서울특별시 강남구 테헤란로")
+                .build());
+        return place.getId();
+    }
+
+    private List<Long> saveUsers(String prefix, int count) {
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String email = prefix + i + "@example.com";
+            userIds.add(userRepository.save(User.builder().name(prefix + i).email(email).role(Role.USER).build()).getId());
+        }
+        return userIds;
+    }
+
+    private static ReviewRequestDto review(int rating) {
+        ReviewRequestDto dto = new ReviewRequestDto();
+        ReflectionTestUtils.setField(dto, "rating", rating);
+        return dto;
+    }
+
+    private Map<String, Object> stats(long placeId) {
+        return jdbcTemplate.queryForMap("SELECT review_count, rating_sum, average_rating, favorite_count, pending_edit_count"
+                + " FROM place WHERE id = ?", placeId);
+    }
+}
@@ -0,0 +1,92 @@
+package com.smoking_map.smoking_map.service;
+
+import com.smoking_map.smoking_map.domain.place.Place;
+import com.smoking_map.smoking_map.domain.place.PlaceRepository;
+import com.smoking_map.smoking_map.domain.review.Review;
+import com.smoking_map.smoking_map.domain.review.ReviewRepository;
+import com.smoking_map.smoking_map.domain.user.Role;
+import com.smoking_map.smoking_map.domain.user.User;
+import com.smoking_map.smoking_map.domain.user.UserRepository;
+import com.smoking_map.smoking_map.service.place.PlaceTrendTracker;
+import com.smoking_map.smoking_map.web.dto.ReviewPageResponseDto;
+import com.smoking_map.smoking_map.web.dto.ReviewResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({ReviewService.class, PlaceTrendTracker.class})
+class ReviewPageTest {
+
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private PlaceRepository placeRepository;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void pagesFollowCursorNewestFirst() {
+        Place place = placeRepository.save(Place.builder()
+                .latitude(new BigDecimal("37.50000000"))
+                .longitude(new BigDecimal("127.00000000"))
+                .originalAddress("서울특별시 강남구 역삼동")
+                .roadAddress("서울특별시 강남구 테헤란로")
+                .build());
+        Place other = placeRepository.save(Place.builder()
+                .latitude(new BigDecimal("37.60000000"))
+                .longitude(new BigDecimal("127.10000000"))
+                .originalAddress("서울특별시 종로구")
+                .roadAddress("서울특별시 종로구 종로")
+                .build());
+        for (int i = 0; i < 45; i++) {
+            User user = userRepository.save(User.builder().name("user" + i).email("user" + i + "@example.com").role(Role.USER).build());
+            reviewRepository.save(Review.builder().user(user).place(place).rating(1 + i % 5).comment("리뷰 " + i).build());
+            if (i % 10 == 0) {
+                reviewRepository.save(Review.builder().user(user).place(other).rating(3).comment("다른 장소").build());
+            }
+        }
+
+        List<Long> seen = new ArrayList<>();
+        Long cursor = null;
+        int pages = 0;
+        do {
+            ReviewPageResponseDto page = reviewService.getReviewPage(place.getId(), cursor, 20, "user44@example.com");
+            for (ReviewResponseDto review : page.getReviews()) {
+                seen.add(review.getId());
+            }
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(3, pages);
+        assertEquals(45, seen.size());
+        for (int i = 1; i < seen.size(); i++) {
+            assertTrue(seen.get(i - 1) > seen.get(i));
+        }
+
+        // 가장 최근 리뷰는 요청한 사용자의 것이라 이름이 보이고, 나머지는 익명입니다.
+        ReviewPageResponseDto first = reviewService.getReviewPage(place.getId(), null, 2, "user44@example.com");
+        assertTrue(first.getReviews().get(0).isWrittenByCurrentUser());
+        assertEquals("user44", first.getReviews().get(0).getUserName());
+        assertEquals("익명", first.getReviews().get(1).getUserName());
+        assertEquals(first.getReviews().get(1).getId(), first.getNextCursor());
+
+        // 기존 전체 목록은 예전처럼 작성순입니다.
+        List<ReviewResponseDto> all = reviewService.getReviewsForPlace(place.getId(), null);
+        assertEquals(45, all.size());
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).getId() < all.get(i).getId());
+        }
+        assertThrows(IllegalArgumentException.class, () -> reviewService.getReviewPage(Long.MAX_VALUE, null, 20, null));
+    }
+}
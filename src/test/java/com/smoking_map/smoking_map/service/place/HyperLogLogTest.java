@@ -0,0 +1,38 @@
+package com.smoking_map.smoking_map.service.place;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HyperLogLogTest {
+
+    @Test
+    void estimatesWithinExpectedError() {
+        for (int n : new int[]{10, 1_000, 100_000}) {
+            HyperLogLog sketch = new HyperLogLog();
+            for (int i = 0; i < n; i++) {
+                sketch.offer(HyperLogLog.hash("session-" + i));
+                sketch.offer(HyperLogLog.hash("session-" + i)); // 같은 세션은 한 번만 셉니다.
+            }
+            // 표준 오차 약 3.25%의 3배 이내
+            assertEquals(n, sketch.estimate(), Math.max(1, n * 0.1), "n=" + n);
+        }
+    }
+
+    @Test
+    void mergeIsUnionAndSurvivesSerialization() {
+        HyperLogLog a = new HyperLogLog();
+        HyperLogLog b = new HyperLogLog();
+        for (int i = 0; i < 20_000; i++) {
+            a.offer(HyperLogLog.hash("a-" + i));
+            b.offer(HyperLogLog.hash("a-" + (i + 10_000))); // 절반이 겹칩니다.
+        }
+
+        HyperLogLog merged = new HyperLogLog(a.toByteArray());
+        merged.merge(b);
+
+        assertEquals(30_000, merged.estimate(), 3_000);
+        assertEquals(merged.estimate(), new HyperLogLog(merged.toByteArray()).estimate());
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(new byte[16]));
+    }
+}
@@ -0,0 +1,87 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.smoking_map.smoking_map.domain.place.Place;
+import com.smoking_map.smoking_map.web.dto.PlaceResponseDto;
+import com.smoking_map.smoking_map.web.dto.PlaceSuggestionDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaceAutocompleteIndexTest {
+
+    private PlaceAutocompleteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlaceAutocompleteIndex(null);
+        index.put(place(1, "서울특별시 강남구 테헤란로 152", "서울특별시 강남구 역삼동 737", "강남역 11번 출구"));
+        index.put(place(2, "서울특별시 강남구 강남대로 396", "서울특별시 강남구 역삼동 858", "가나다 빌딩 뒤"));
+        index.put(place(3, "서울특별시 강서구 공항대로 247", "서울특별시 강서구 마곡동 757", ""));
+        index.put(place(4, "부산광역시 해운대구 해운대로 264", "부산광역시 해운대구 우동 1411", "Haeundae Station"));
+    }
+
+    @Test
+    void completesPrefixOrderedByPlaceCount() {
+        assertEquals(List.of("강남구", "강남역", "강남대로"), texts("강남"));
+        assertEquals(2, index.suggest("강남", 10).get(0).getPlaceCount());
+        assertEquals(List.of("강남구"), texts("강남", 1));
+    }
+
+    @Test
+    void matchesInitialConsonants() {
+        assertEquals(List.of("강남구", "가나다", "강남역", "강남대로"), texts("ㄱㄴ"));
+        assertEquals(List.of("강서구"), texts("강ㅅ"));
+        assertEquals(List.of("해운대구", "해운대로"), texts("ㅎㅇㄷ"));
+    }
+
+    @Test
+    void matchesSyllableStillBeingTyped() {
+        // "강"을 치는 도중의 "가", "가나"를 치는 도중의 "간"
+        assertEquals(List.of("강남구", "가나다", "강남역", "강서구", "강남대로"), texts("가"));
+        assertEquals(List.of("가나다"), texts("간"));
+        assertTrue(texts("갇").isEmpty());
+    }
+
+    @Test
+    void keepsEarlierWordsAndSkipsNumbers() {
+        assertEquals(List.of("부산광역시 해운대구", "부산광역시 해운대로"), texts("부산광역시 해운"));
+        assertEquals(List.of("haeundae"), texts("HAE"));
+        assertTrue(texts("15").isEmpty());
+    }
+
+    @Test
+    void removedPlacesNoLongerCount() {
+        index.remove(1);
+        index.put(place(2, "서울특별시 마포구 양화로 45", "", ""));
+
+        assertTrue(texts("강남").isEmpty());
+        assertEquals(List.of("서울특별시"), texts("ㅅㅇ"));
+        assertEquals(2, index.suggest("ㅅㅇ", 10).get(0).getPlaceCount());
+    }
+
+    private List<String> texts(String query) {
+        return texts(query, 10);
+    }
+
+    private List<String> texts(String query, int limit) {
+        return index.suggest(query, limit).stream().map(PlaceSuggestionDto::getText).collect(Collectors.toList());
+    }
+
+    private static PlaceResponseDto place(long id, String roadAddress, String originalAddress, String description) {
+        Place place = Place.builder()
+                .latitude(BigDecimal.valueOf(37.5))
+                .longitude(BigDecimal.valueOf(127.0))
+                .roadAddress(roadAddress)
+                .originalAddress(originalAddress)
+                .description(description)
+                .build();
+        ReflectionTestUtils.setField(place, "id", id);
+        return new PlaceResponseDto(place);
+    }
+}
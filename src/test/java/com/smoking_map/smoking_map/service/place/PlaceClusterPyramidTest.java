@@ -0,0 +1,95 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.smoking_map.smoking_map.web.dto.PlaceClusterDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaceClusterPyramidTest {
+
+    private PlaceSpatialIndex index;
+    private PlaceClusterPyramid pyramid;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlaceSpatialIndex(null);
+        pyramid = new PlaceClusterPyramid(index);
+    }
+
+    @Test
+    void aggregatesPlacesPerCell() {
+        add(1, 37.50, 127.00);
+        add(2, 37.52, 127.02);
+        add(3, 35.10, 129.03); // 부산
+
+        // 줌 0은 한 변 4칸이라 한반도 전체가 한 칸입니다.
+        List<PlaceClusterDto> world = pyramid.findClusters(-85, -180, 85, 180, 0, 100);
+        assertEquals(1, world.size());
+        assertEquals(3, world.get(0).getCount());
+        assertEquals((37.50 + 37.52 + 35.10) / 3, world.get(0).getLatitude(), 1e-9);
+        assertEquals((127.00 + 127.02 + 129.03) / 3, world.get(0).getLongitude(), 1e-9);
+
+        // 줌 8에서는 서울 두 곳이 한 칸, 부산이 다른 칸입니다.
+        List<PlaceClusterDto> korea = pyramid.findClusters(33, 124, 39, 131, 8, 100);
+        assertEquals(2, korea.size());
+        PlaceClusterDto seoul = korea.stream().filter(c -> c.getCount() == 2).findFirst().orElseThrow();
+        assertEquals(1L, (long) seoul.getRepresentativePlaceId());
+
+        // 줌 14에서는 모두 따로 나뉘고, 영역 밖의 칸은 포함하지 않습니다.
+        assertEquals(3, pyramid.findClusters(33, 124, 39, 131, 14, 100).size());
+        assertEquals(1, pyramid.findClusters(35.0, 129.0, 35.2, 129.1, 14, 100).size());
+    }
+
+    @Test
+    void updatesCellsOnDeleteAndMove() {
+        add(1, 37.50, 127.00);
+        add(2, 37.5001, 127.0001);
+
+        // 대표 장소를 삭제하면 같은 칸의 다른 장소가 대표가 됩니다 (공간 인덱스가 먼저 갱신됨).
+        remove(1, 37.50, 127.00);
+        List<PlaceClusterDto> clusters = pyramid.findClusters(37.4, 126.9, 37.6, 127.1, 14, 100);
+        assertEquals(1, clusters.size());
+        assertEquals(1, clusters.get(0).getCount());
+        assertEquals(2L, (long) clusters.get(0).getRepresentativePlaceId());
+        assertEquals(37.5001, clusters.get(0).getLatitude(), 1e-9);
+
+        // 이동은 옛 좌표에서 빼고 새 좌표에 더합니다.
+        remove(2, 37.5001, 127.0001);
+        add(2, 35.10, 129.03);
+        assertTrue(pyramid.findClusters(37.4, 126.9, 37.6, 127.1, 14, 100).isEmpty());
+        clusters = pyramid.findClusters(35.0, 129.0, 35.2, 129.1, 14, 100);
+        assertEquals(1, clusters.size());
+        assertEquals(2L, (long) clusters.get(0).getRepresentativePlaceId());
+        for (int zoom = PlaceClusterPyramid.MIN_ZOOM; zoom <= PlaceClusterPyramid.MAX_CLUSTER_ZOOM; zoom++) {
+            List<PlaceClusterDto> world = pyramid.findClusters(-85, -180, 85, 180, zoom, 100);
+            assertEquals(1, world.size());
+            assertEquals(1, world.get(0).getCount());
+        }
+    }
+
+    @Test
+    void capsClustersForWideBoundsAtHighZoom() {
+        Random random = new Random(42);
+        for (int i = 1; i <= 3000; i++) {
+            add(i, -60 + random.nextDouble() * 120, -170 + random.nextDouble() * 340);
+        }
+
+        assertEquals(1000, pyramid.findClusters(-85, -180, 85, 180, 14, 1000).size());
+        // 낮은 줌에서도 같은 제한이 적용됩니다.
+        assertEquals(5, pyramid.findClusters(-85, -180, 85, 180, 2, 5).size());
+    }
+
+    private void add(long id, double lat, double lng) {
+        index.put(id, lat, lng);
+        pyramid.add(id, lat, lng);
+    }
+
+    private void remove(long id, double lat, double lng) {
+        index.remove(id);
+        pyramid.remove(id, lat, lng);
+    }
+}
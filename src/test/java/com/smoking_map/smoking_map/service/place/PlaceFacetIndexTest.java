@@ -0,0 +1,83 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.smoking_map.smoking_map.domain.place.ImageInfo;
+import com.smoking_map.smoking_map.domain.place.Place;
+import com.smoking_map.smoking_map.web.dto.PlaceFilterDto;
+import com.smoking_map.smoking_map.web.dto.PlaceResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaceFacetIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    private PlaceFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlaceFacetIndex(null, null);
+        index.put(place(1, "서울특별시 강남구 테헤란로 152", 4.5, 12, true), NOW.minusDays(100));
+        index.put(place(2, "서울특별시 마포구 양화로 45", 3.7, 3, false), NOW.minusDays(40));
+        index.put(place(3, "부산광역시 해운대구 해운대로 264", 4.0, 50, true), NOW.minusDays(10));
+        index.put(place(4, "세종특별자치시 세종특별자치시 한누리대로 2130", 0.0, 0, false), NOW.minusDays(1));
+        index.put(place(5, "주소 정보 없음", 5.0, 1, true), NOW.minusHours(1));
+    }
+
+    @Test
+    void emptyFilterMatchesEveryPlace() {
+        assertArrayEquals(new long[]{1, 2, 3, 4, 5}, index.findIds(PlaceFilterDto.builder().build(), NOW));
+    }
+
+    @Test
+    void ratingAndReviewBoundsMatchExactlyBetweenBitmapSteps() {
+        assertArrayEquals(new long[]{1, 3, 5}, index.findIds(PlaceFilterDto.builder().minRating(4.0).build(), NOW));
+        assertArrayEquals(new long[]{1, 3, 5}, index.findIds(PlaceFilterDto.builder().minRating(3.8).build(), NOW));
+        assertArrayEquals(new long[]{1, 2, 3, 5}, index.findIds(PlaceFilterDto.builder().minRating(3.7).build(), NOW));
+        assertArrayEquals(new long[]{1, 3}, index.findIds(PlaceFilterDto.builder().minReviews(4).build(), NOW));
+        assertArrayEquals(new long[]{3}, index.findIds(PlaceFilterDto.builder().minReviews(13).build(), NOW));
+    }
+
+    @Test
+    void combinesPhotoRegionAndRecencyFilters() {
+        assertArrayEquals(new long[]{1, 3, 5}, index.findIds(PlaceFilterDto.builder().hasPhotos(true).build(), NOW));
+        assertArrayEquals(new long[]{2, 4}, index.findIds(PlaceFilterDto.builder().hasPhotos(false).build(), NOW));
+        assertArrayEquals(new long[]{1, 2}, index.findIds(PlaceFilterDto.builder().sido("서울").build(), NOW));
+        assertArrayEquals(new long[]{1}, index.findIds(PlaceFilterDto.builder().sido("서울특별시").sigungu("강남구").build(), NOW));
+        assertArrayEquals(new long[]{4}, index.findIds(PlaceFilterDto.builder().sido("세종").build(), NOW));
+        assertArrayEquals(new long[]{3, 4, 5}, index.findIds(PlaceFilterDto.builder().addedWithinDays(30).build(), NOW));
+        assertArrayEquals(new long[]{3, 5}, index.findIds(PlaceFilterDto.builder().addedWithinDays(30).hasPhotos(true).minRating(4.0).build(), NOW));
+    }
+
+    @Test
+    void updatesAndDeletesAreReflected() {
+        index.put(place(2, "서울특별시 마포구 양화로 45", 4.2, 5, true), NOW.minusDays(40));
+        index.remove(3);
+
+        assertArrayEquals(new long[]{1, 2, 5}, index.findIds(PlaceFilterDto.builder().minRating(4.0).build(), NOW));
+        assertArrayEquals(new long[]{1, 2, 5}, index.findIds(PlaceFilterDto.builder().hasPhotos(true).build(), NOW));
+        assertArrayEquals(new long[0], index.findIds(PlaceFilterDto.builder().sido("부산").build(), NOW));
+        assertArrayEquals(new long[]{4, 5}, index.findIds(PlaceFilterDto.builder().addedWithinDays(30).build(), NOW));
+    }
+
+    private static PlaceResponseDto place(long id, String roadAddress, double rating, int reviewCount, boolean photo) {
+        Place place = Place.builder()
+                .latitude(BigDecimal.valueOf(37.5))
+                .longitude(BigDecimal.valueOf(127.0))
+                .roadAddress(roadAddress)
+                .originalAddress("")
+                .build();
+        ReflectionTestUtils.setField(place, "id", id);
+        ReflectionTestUtils.setField(place, "averageRating", rating);
+        ReflectionTestUtils.setField(place, "reviewCount", reviewCount);
+        if (photo) {
+            place.addImageInfo(ImageInfo.builder().imageUrl("https://img/" + id + ".jpg").build());
+        }
+        return new PlaceResponseDto(place);
+    }
+}
@@ -0,0 +1,136 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smoking_map.smoking_map.domain.place.ImageInfo;
+import com.smoking_map.smoking_map.domain.place.Place;
+import com.smoking_map.smoking_map.web.dto.PlaceResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 마커 바이너리 포맷 왕복 검증 + 기존 JSON 목록과의 크기 비교
+class PlaceMarkerEncoderTest {
+
+    private static final int PLACE_COUNT = 20_000;
+
+    private final Random random = new Random(7);
+
+    @Test
+    void decodedMarkersMatchInput() {
+        int n = PLACE_COUNT;
+        long[] ids = new long[n];
+        int[] lats = new int[n];
+        int[] lngs = new int[n];
+        byte[] ratings = new byte[n];
+        long id = 0;
+        for (int i = 0; i < n; i++) {
+            id += 1 + random.nextInt(5);
+            ids[i] = id;
+            // 경계값(남극/날짜변경선)도 포함
+            lats[i] = i == 0 ? -900_000_000 : PlaceSpatialIndex.toFixed(33.0 + random.nextDouble() * 5.5);
+            lngs[i] = i == 1 ? 1_800_000_000 : PlaceSpatialIndex.toFixed(124.5 + random.nextDouble() * 7.5);
+            ratings[i] = PlaceMarkerEncoder.ratingByte(random.nextInt(51) / 10.0);
+        }
+
+        ByteBuffer in = ByteBuffer.wrap(PlaceMarkerEncoder.encode(ids, lats, lngs, ratings, n));
+        assertEquals(PlaceMarkerEncoder.FORMAT_VERSION, in.get());
+        assertEquals(n, readVarint(in));
+        long prevId = 0;
+        long prevLat = 0;
+        long prevLng = 0;
+        for (int i = 0; i < n; i++) {
+            prevId += readVarint(in);
+            prevLat += unzigzag(readVarint(in));
+            prevLng += unzigzag(readVarint(in));
+            assertEquals(ids[i], prevId);
+            assertEquals(lats[i], prevLat);
+            assertEquals(lngs[i], prevLng);
+            assertEquals(ratings[i], in.get());
+        }
+        assertFalse(in.hasRemaining());
+    }
+
+    @Test
+    void ratingIsStoredInFiftiethsAndClamped() {
+        assertEquals(0, PlaceMarkerEncoder.ratingByte(0.0));
+        assertEquals(176, PlaceMarkerEncoder.ratingByte(3.52) & 0xFF);
+        assertEquals(250, PlaceMarkerEncoder.ratingByte(5.0) & 0xFF);
+        assertEquals(250, PlaceMarkerEncoder.ratingByte(7.0) & 0xFF);
+    }
+
+    @Test
+    void payloadIsSmallerThanJsonList() throws Exception {
+        List<PlaceResponseDto> places = createPlaces(PLACE_COUNT);
+
+        int n = places.size();
+        long[] ids = new long[n];
+        int[] lats = new int[n];
+        int[] lngs = new int[n];
+        byte[] ratings = new byte[n];
+        for (int i = 0; i < n; i++) {
+            PlaceResponseDto place = places.get(i);
+            ids[i] = place.getId();
+            lats[i] = PlaceSpatialIndex.toFixed(place.getLatitude().doubleValue());
+            lngs[i] = PlaceSpatialIndex.toFixed(place.getLongitude().doubleValue());
+            ratings[i] = PlaceMarkerEncoder.ratingByte(place.getAverageRating());
+        }
+
+        byte[] json = new ObjectMapper().writeValueAsBytes(places);
+        byte[] binary = PlaceMarkerEncoder.encode(ids, lats, lngs, ratings, n);
+
+        // 마커 하나당 10바이트 이하. 무작위 좌표는 gzip으로 거의 줄지 않으므로 압축 후 비교는 1/3 기준으로 둡니다.
+        assertTrue(binary.length <= n * 10);
+        assertTrue(binary.length * 20 < json.length);
+        assertTrue(PlaceMarkerEncoder.gzip(binary).length * 3 < PlaceMarkerEncoder.gzip(json).length);
+    }
+
+    private List<PlaceResponseDto> createPlaces(int n) {
+        String[] sido = {"서울특별시", "경기도", "부산광역시", "인천광역시"};
+        String[] sigungu = {"강남구", "마포구", "수원시 영통구", "해운대구", "연수구"};
+        List<PlaceResponseDto> places = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            long id = i + 1;
+            String region = sido[i % sido.length] + " " + sigungu[i % sigungu.length];
+            Place place = Place.builder()
+                    .latitude(BigDecimal.valueOf(37.40 + random.nextDouble() * 0.35).setScale(8, RoundingMode.HALF_UP))
+                    .longitude(BigDecimal.valueOf(126.80 + random.nextDouble() * 0.40).setScale(8, RoundingMode.HALF_UP))
+                    .originalAddress(region + " 테헤란로 " + (i % 500) + "길 " + (i % 37))
+                    .roadAddress(region + " 테헤란로 " + (i % 500))
+                    .description("건물 뒤편 흡연구역, 재떨이 있음 #" + id)
+                    .build();
+            ReflectionTestUtils.setField(place, "id", id);
+            ReflectionTestUtils.setField(place, "averageRating", random.nextInt(51) / 10.0);
+            ReflectionTestUtils.setField(place, "reviewCount", random.nextInt(30));
+            place.addImageInfo(ImageInfo.builder()
+                    .imageUrl("https://smoking-map-images.s3.ap-northeast-2.amazonaws.com/places/" + id + "_1.jpg")
+                    .build());
+            places.add(new PlaceResponseDto(place));
+        }
+        return places;
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,117 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.smoking_map.smoking_map.domain.place.Place;
+import com.smoking_map.smoking_map.web.dto.PlaceResponseDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaceSearchIndexTest {
+
+    private PlaceSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlaceSearchIndex(null);
+        index.put(place(1, "서울특별시 강남구 테헤란로 152", "서울특별시 강남구 역삼동 737", "강남파이낸스센터 뒤편", 3));
+        index.put(place(2, "서울특별시 마포구 양화로 45", "서울특별시 마포구 서교동 395", "테헤란로 방향 출구 앞", 10));
+        index.put(place(3, "부산광역시 해운대구 해운대로 264", "부산광역시 해운대구 우동 1411", "해변 쪽 흡연부스", 0));
+        index.put(place(4, "서울특별시 강남구 테헤란로 427", "서울특별시 강남구 삼성동 159", "재떨이 있음", 7));
+    }
+
+    @Test
+    void addressMatchesRankAboveDescriptionMatches() {
+        // 주소 일치(1, 4)가 설명 일치(2)보다 앞서고, 점수가 같으면 리뷰가 많은 4가 먼저
+        assertArrayEquals(new long[]{4, 1, 2}, index.search("테헤란로", 10));
+        assertArrayEquals(new long[]{4}, index.search("테헤란로", 1));
+    }
+
+    @Test
+    void everyWordMustMatch() {
+        assertArrayEquals(new long[]{4, 1}, index.search("강남구 테헤란로", 10));
+        assertArrayEquals(new long[]{1}, index.search("강남구, 역삼동", 10));
+        assertArrayEquals(new long[0], index.search("강남구 해운대", 10));
+    }
+
+    @Test
+    void singleCharacterAndPartialWords() {
+        assertArrayEquals(new long[]{3}, index.search("우", 10));
+        assertArrayEquals(new long[]{3}, index.search("운대로", 10));
+        // 2-gram은 모두 있지만(서교, 교동) 연속해서 나오지 않는 경우는 제외합니다.
+        assertArrayEquals(new long[0], index.search("서교교동", 10));
+    }
+
+    @Test
+    void changesAreReflected() {
+        index.put(place(3, "서울특별시 강남구 테헤란로 1", "", "", 100));
+        index.remove(4);
+
+        assertArrayEquals(new long[]{3, 1, 2}, index.search("테헤란로", 10));
+        assertArrayEquals(new long[0], index.search("해운대", 10));
+        assertArrayEquals(new long[0], index.search("삼성동", 10));
+    }
+
+    @Test
+    void updatesReuseSlots() {
+        // 리뷰 수만 바뀌는 변경을 반복해도 slot이 늘지 않습니다.
+        for (int i = 0; i < 1000; i++) {
+            index.put(place(1, "서울특별시 강남구 테헤란로 152", "서울특별시 강남구 역삼동 737", "강남파이낸스센터 뒤편", 20 + i));
+        }
+        assertEquals(4, index.slotCount());
+        assertArrayEquals(new long[]{1, 4, 2}, index.search("테헤란로", 10));
+
+        // 삭제된 장소의 slot(가장 작은 번호)을 새 장소가 재사용해도 posting 정렬과 검색 결과가 유지됩니다.
+        index.remove(1);
+        index.put(place(5, "서울특별시 강남구 테헤란로 5", "", "", 50));
+        index.put(place(3, "부산광역시 해운대구 테헤란로 9", "", "", 0));
+        assertEquals(4, index.slotCount());
+        assertArrayEquals(new long[]{5, 4, 3, 2}, index.search("테헤란로", 10));
+        assertArrayEquals(new long[0], index.search("역삼동", 10));
+        assertArrayEquals(new long[]{3}, index.search("해운대", 10));
+        assertArrayEquals(new long[0], index.search("우동", 10));
+    }
+
+    @Test
+    void insertKeepsPostingsSorted() {
+        PlaceSearchIndex.Postings list = new PlaceSearchIndex.Postings();
+        for (int slot : new int[]{5, 1, 9, 3, 7, 3}) {
+            list.insert(slot);
+        }
+        assertEquals(5, list.size);
+        assertArrayEquals(new int[]{1, 3, 5, 7, 9}, Arrays.copyOf(list.slots, list.size));
+    }
+
+    @Test
+    void intersectSkipsMissingSlots() {
+        PlaceSearchIndex.Postings list = new PlaceSearchIndex.Postings();
+        for (int slot : new int[]{1, 3, 5, 7, 9, 11}) {
+            list.append(slot);
+        }
+        int[] result = {0, 3, 4, 9, 12};
+
+        int size = PlaceSearchIndex.intersect(result, result.length, list);
+
+        assertEquals(2, size);
+        assertEquals(3, result[0]);
+        assertEquals(9, result[1]);
+    }
+
+    private static PlaceResponseDto place(long id, String roadAddress, String originalAddress, String description, int reviewCount) {
+        Place place = Place.builder()
+                .latitude(BigDecimal.valueOf(37.5))
+                .longitude(BigDecimal.valueOf(127.0))
+                .roadAddress(roadAddress)
+                .originalAddress(originalAddress)
+                .description(description)
+                .build();
+        ReflectionTestUtils.setField(place, "id", id);
+        ReflectionTestUtils.setField(place, "averageRating", 4.0);
+        ReflectionTestUtils.setField(place, "reviewCount", reviewCount);
+        return new PlaceResponseDto(place);
+    }
+}
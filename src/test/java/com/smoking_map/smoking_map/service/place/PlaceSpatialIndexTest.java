@@ -0,0 +1,178 @@
+package com.smoking_map.smoking_map.service.place;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 공간 인덱스 조회 결과가 전체 순회(brute-force) 결과와 같은지 검증
+class PlaceSpatialIndexTest {
+
+    private static final int PLACE_COUNT = 20_000;
+
+    private final Random random = new Random(42);
+    private PlaceSpatialIndex index;
+    private long[] ids;
+    private double[] lats;
+    private double[] lngs;
+    private boolean[] removed;
+
+    @BeforeEach
+    void setUp() {
+        index = new PlaceSpatialIndex(null);
+        ids = new long[PLACE_COUNT];
+        lats = new double[PLACE_COUNT];
+        lngs = new double[PLACE_COUNT];
+        removed = new boolean[PLACE_COUNT];
+        // 서울 근방에 장소를 흩뿌림
+        for (int i = 0; i < PLACE_COUNT; i++) {
+            ids[i] = i + 1;
+            lats[i] = 37.40 + random.nextDouble() * 0.35;
+            lngs[i] = 126.80 + random.nextDouble() * 0.40;
+        }
+        index.rebuild(ids, lats, lngs, PLACE_COUNT);
+    }
+
+    @Test
+    void boundsQueryMatchesBruteForce() {
+        for (int q = 0; q < 200; q++) {
+            assertBoundsQueryMatches(randomBox());
+        }
+    }
+
+    @Test
+    void radiusQueryMatchesBruteForce() {
+        for (int q = 0; q < 200; q++) {
+            double lat = 37.40 + random.nextDouble() * 0.35;
+            double lng = 126.80 + random.nextDouble() * 0.40;
+            double radius = 50 + random.nextDouble() * 5_000;
+
+            long[] out = new long[PLACE_COUNT];
+            int found = index.findWithinRadius(lat, lng, radius, out);
+
+            long[] expected = bruteForce(i -> GeoUtils.haversineMeters(lat, lng, quantize(lats[i]), quantize(lngs[i])) <= radius);
+            assertArrayEquals(expected, sorted(out, found));
+        }
+    }
+
+    @Test
+    void incrementalUpdatesMatchBruteForce() {
+        for (int i = 0; i < PLACE_COUNT; i += 3) {
+            assertTrue(index.remove(ids[i]));
+            removed[i] = true;
+        }
+        assertFalse(index.remove(ids[0]));
+
+        // 삭제했던 일부를 다른 좌표로 다시 추가
+        for (int i = 0; i < PLACE_COUNT; i += 9) {
+            lats[i] = 37.40 + random.nextDouble() * 0.35;
+            lngs[i] = 126.80 + random.nextDouble() * 0.40;
+            index.put(ids[i], lats[i], lngs[i]);
+            removed[i] = false;
+        }
+
+        int alive = 0;
+        for (boolean r : removed) {
+            if (!r) alive++;
+        }
+        assertEquals(alive, index.size());
+        assertTrue(index.contains(ids[9]));
+        assertFalse(index.contains(ids[3]));
+
+        for (int q = 0; q < 100; q++) {
+            assertBoundsQueryMatches(randomBox());
+        }
+    }
+
+    @Test
+    void nearestQueryMatchesBruteForce() {
+        for (int q = 0; q < 200; q++) {
+            double lat = 37.35 + random.nextDouble() * 0.45;
+            double lng = 126.75 + random.nextDouble() * 0.50;
+            int k = 1 + random.nextInt(20);
+            double maxMeters = 200 + random.nextDouble() * 3_000;
+
+            long[] outIds = new long[k];
+            double[] outDistances = new double[k];
+            int found = index.findNearest(lat, lng, maxMeters, outIds, outDistances);
+
+            double[] expected = java.util.stream.IntStream.range(0, PLACE_COUNT)
+                    .mapToDouble(i -> GeoUtils.haversineMeters(lat, lng, quantize(lats[i]), quantize(lngs[i])))
+                    .filter(d -> d <= maxMeters)
+                    .sorted()
+                    .limit(k)
+                    .toArray();
+            assertEquals(expected.length, found);
+            for (int i = 0; i < found; i++) {
+                assertEquals(expected[i], outDistances[i], 1e-6);
+            }
+        }
+    }
+
+    @Test
+    void nearestQueryRejectsNonFiniteInput() {
+        long[] outIds = new long[5];
+        double[] outDistances = new double[5];
+        // NaN이면 거리 비교가 항상 거짓이라 전 세계 칸을 훑게 되므로 바로 빈 결과여야 합니다.
+        assertEquals(0, index.findNearest(Double.NaN, 127.0, 1_000, outIds, outDistances));
+        assertEquals(0, index.findNearest(37.5, Double.NaN, 1_000, outIds, outDistances));
+        assertEquals(0, index.findNearest(37.5, 127.0, Double.NaN, outIds, outDistances));
+        assertEquals(0, index.findNearest(37.5, 127.0, Double.POSITIVE_INFINITY, outIds, outDistances));
+        assertEquals(0, index.findNearest(37.5, 127.0, -1, outIds, outDistances));
+        assertEquals(5, index.findNearest(37.5, 127.0, 1_000, outIds, outDistances));
+    }
+
+    @Test
+    void findInBoundsStopsWhenOutputIsFull() {
+        long[] out = new long[10];
+        int found = index.findInBounds(37.0, 126.0, 38.0, 128.0, out);
+        assertEquals(10, found);
+    }
+
+    private void assertBoundsQueryMatches(double[] box) {
+        long[] out = new long[PLACE_COUNT];
+        int found = index.findInBounds(box[0], box[1], box[2], box[3], out);
+
+        int minLat = PlaceSpatialIndex.toFixed(box[0]);
+        int minLng = PlaceSpatialIndex.toFixed(box[1]);
+        int maxLat = PlaceSpatialIndex.toFixed(box[2]);
+        int maxLng = PlaceSpatialIndex.toFixed(box[3]);
+        long[] expected = bruteForce(i -> {
+            int lat = PlaceSpatialIndex.toFixed(lats[i]);
+            int lng = PlaceSpatialIndex.toFixed(lngs[i]);
+            return lat >= minLat && lat <= maxLat && lng >= minLng && lng <= maxLng;
+        });
+        assertArrayEquals(expected, sorted(out, found));
+
+        int[] visited = new int[1];
+        assertEquals(found, index.forEachInBounds(box[0], box[1], box[2], box[3], (id, lat, lng) -> visited[0]++));
+        assertEquals(found, visited[0]);
+    }
+
+    private double[] randomBox() {
+        double lat = 37.35 + random.nextDouble() * 0.40;
+        double lng = 126.75 + random.nextDouble() * 0.45;
+        return new double[]{lat, lng, lat + random.nextDouble() * 0.1, lng + random.nextDouble() * 0.1};
+    }
+
+    private long[] bruteForce(java.util.function.IntPredicate matches) {
+        return java.util.stream.IntStream.range(0, PLACE_COUNT)
+                .filter(i -> !removed[i] && matches.test(i))
+                .mapToLong(i -> ids[i])
+                .sorted()
+                .toArray();
+    }
+
+    private static long[] sorted(long[] out, int count) {
+        long[] copy = Arrays.copyOf(out, count);
+        Arrays.sort(copy);
+        return copy;
+    }
+
+    private static double quantize(double degrees) {
+        return PlaceSpatialIndex.toFixed(degrees) / PlaceSpatialIndex.FIXED_POINT_SCALE;
+    }
+}
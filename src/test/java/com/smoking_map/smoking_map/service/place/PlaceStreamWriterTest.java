@@ -0,0 +1,113 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smoking_map.smoking_map.domain.favorite.Favorite;
+import com.smoking_map.smoking_map.domain.favorite.FavoriteRepository;
+import com.smoking_map.smoking_map.domain.place.ImageInfo;
+import com.smoking_map.smoking_map.domain.place.Place;
+import com.smoking_map.smoking_map.domain.place.PlaceQueryRepository;
+import com.smoking_map.smoking_map.domain.place.PlaceRepository;
+import com.smoking_map.smoking_map.domain.place.PlaceViewSketch;
+import com.smoking_map.smoking_map.domain.place.PlaceViewSketchRepository;
+import com.smoking_map.smoking_map.domain.user.Role;
+import com.smoking_map.smoking_map.domain.user.User;
+import com.smoking_map.smoking_map.domain.user.UserRepository;
+import com.smoking_map.smoking_map.web.dto.PlaceResponseDto;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 커서로 쓴 JSON이 목록 조회(PlaceResponseDto.fromRows) 결과와 같은지 확인합니다.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({PlaceStreamWriter.class, JacksonAutoConfiguration.class})
+class PlaceStreamWriterTest {
+
+    // 청크 경계를 넘도록 CHUNK_SIZE보다 조금 많이 만듭니다.
+    private static final int PLACE_COUNT = PlaceStreamWriter.CHUNK_SIZE + 7;
+
+    @Autowired
+    private PlaceStreamWriter placeStreamWriter;
+    @Autowired
+    private PlaceQueryRepository placeQueryRepository;
+    @Autowired
+    private PlaceRepository placeRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private FavoriteRepository favoriteRepository;
+    @Autowired
+    private PlaceViewSketchRepository placeViewSketchRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void streamedPlacesMatchListing() throws Exception {
+        User user = userRepository.save(User.builder().name("Tester").email("stream@example.com").role(Role.USER).build());
+        Place favorited = savePlaces(user);
+        Set<Long> favoritedPlaceIds = Set.of(favorited.getId());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        placeStreamWriter.writePlaces(out, favoritedPlaceIds);
+
+        String expected = objectMapper.writeValueAsString(PlaceResponseDto.fromRows(
+                placeQueryRepository.findAllPlaceRows(), placeQueryRepository.findAllImageRows(), favoritedPlaceIds));
+        assertEquals(objectMapper.readTree(expected), objectMapper.readTree(out.toByteArray()));
+    }
+
+    @Test
+    void adminExportCountsRelatedRows() throws Exception {
+        User user = userRepository.save(User.builder().name("Tester").email("export@example.com").role(Role.USER).build());
+        Place favorited = savePlaces(user);
+        placeViewSketchRepository.saveAndFlush(new PlaceViewSketch(favorited.getId(), new byte[1024], 42));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        placeStreamWriter.writeAdminPlaces(out);
+
+        JsonNode places = objectMapper.readTree(out.toByteArray());
+        assertEquals(PLACE_COUNT, places.size());
+        for (JsonNode place : places) {
+            boolean isFavorited = place.get("id").asLong() == favorited.getId();
+            assertEquals(2, place.get("imageCount").asInt());
+            assertEquals("export@example.com", place.get("creatorEmail").asText());
+            assertEquals(isFavorited ? 1 : 0, place.get("favoriteCount").asInt());
+            assertEquals(isFavorited ? 42 : 0, place.get("uniqueViewers").asLong());
+        }
+    }
+
+    // 장소마다 이미지 2장, 첫 장소만 즐겨찾기. 즐겨찾기한 장소를 반환합니다.
+    private Place savePlaces(User user) {
+        Place first = null;
+        for (int i = 0; i < PLACE_COUNT; i++) {
+            Place place = Place.builder()
+                    .latitude(BigDecimal.valueOf(37.5))
+                    .longitude(BigDecimal.valueOf(127.0))
+                    .originalAddress("서울특별시 강남구 테헤란로 " + i)
+                    .roadAddress("서울특별시 강남구 테헤란로 " + i)
+                    .description("place" + i)
+                    .user(user)
+                    .build();
+            place.addImageInfo(ImageInfo.builder().imageUrl("https://example.com/" + i + "_1.jpg").build());
+            place.addImageInfo(ImageInfo.builder().imageUrl("https://example.com/" + i + "_2.jpg").build());
+            placeRepository.save(place);
+            if (first == null) {
+                first = place;
+                favoriteRepository.save(Favorite.builder().user(user).place(place).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return first;
+    }
+}
@@ -0,0 +1,113 @@
+package com.smoking_map.smoking_map.service.place;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaceTrendTrackerTest {
+
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    @Test
+    void scoresDecayByHalfEveryHalfLife() {
+        PlaceTrendTracker tracker = new PlaceTrendTracker(HOUR, 100, 0);
+        tracker.record(1L, PlaceTrendTracker.REVIEW_WEIGHT, 0);
+        tracker.record(2L, PlaceTrendTracker.VIEW_WEIGHT, 3 * HOUR);
+
+        long[] ids = new long[2];
+        double[] scores = new double[2];
+        assertEquals(2, tracker.findTop(id -> true, 3 * HOUR, ids, scores));
+        // 3시간 전 리뷰 10점은 1.25점으로 줄어도 방금 조회 1점보다 높습니다.
+        assertEquals(1L, ids[0]);
+        assertEquals(1.25, scores[0], 1e-9);
+        assertEquals(2L, ids[1]);
+        assertEquals(1.0, scores[1], 1e-9);
+
+        // 모든 점수가 같은 비율로 줄어드므로 새 이벤트 없이는 순서가 바뀌지 않습니다.
+        tracker.findTop(id -> true, 7 * HOUR, ids, scores);
+        assertEquals(1L, ids[0]);
+        assertEquals(1.25 / 16, scores[0], 1e-9);
+    }
+
+    @Test
+    void recentActivityOutranksOlderBurst() {
+        PlaceTrendTracker tracker = new PlaceTrendTracker(HOUR, 100, 0);
+        for (int i = 0; i < 100; i++) {
+            tracker.record(1L, PlaceTrendTracker.VIEW_WEIGHT, 0);
+        }
+        for (int i = 0; i < 10; i++) {
+            tracker.record(2L, PlaceTrendTracker.VIEW_WEIGHT, 10 * HOUR);
+        }
+        long[] ids = new long[1];
+        double[] scores = new double[1];
+        tracker.findTop(id -> true, 10 * HOUR, ids, scores);
+        assertEquals(2L, ids[0]);
+    }
+
+    @Test
+    void rescalingKeepsScoresAfterLongUptime() {
+        PlaceTrendTracker tracker = new PlaceTrendTracker(HOUR, 100, 0);
+        // 지수가 여러 번 기준 시각을 넘어갈 만큼 긴 시간 (약 400 반감기)
+        long t = 0;
+        for (int i = 0; i < 400; i++) {
+            t += HOUR;
+            tracker.record(i % 2 == 0 ? 1L : 2L, PlaceTrendTracker.VIEW_WEIGHT, t);
+        }
+        tracker.record(1L, PlaceTrendTracker.FAVORITE_WEIGHT, t);
+
+        long[] ids = new long[2];
+        double[] scores = new double[2];
+        assertEquals(2, tracker.findTop(id -> true, t, ids, scores));
+        assertEquals(1L, ids[0]);
+        assertTrue(Double.isFinite(scores[0]) && Double.isFinite(scores[1]));
+        // 2번 장소: 방금 1점 + 2시간 전 1/4 + ... = 1/(1 - 1/4)
+        assertEquals(4.0 / 3, scores[1], 1e-9);
+    }
+
+    @Test
+    void spaceSavingKeepsHeavyHittersWithinCapacity() {
+        PlaceTrendTracker tracker = new PlaceTrendTracker(24 * HOUR, 50, 0);
+        Random random = new Random(42);
+        Map<Long, Integer> exact = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            // 장소 1~5는 전체의 절반, 나머지는 장소 10,000개에 흩어짐
+            long id = random.nextBoolean() ? 1 + random.nextInt(5) : 100 + random.nextInt(10_000);
+            exact.merge(id, 1, Integer::sum);
+            tracker.record(id, PlaceTrendTracker.VIEW_WEIGHT, 0);
+        }
+        assertEquals(50, tracker.trackedPlaceCount());
+
+        long[] ids = new long[5];
+        double[] scores = new double[5];
+        assertEquals(5, tracker.findTop(id -> true, 0, ids, scores));
+        for (int i = 0; i < 5; i++) {
+            assertTrue(ids[i] >= 1 && ids[i] <= 5, "상위 장소가 빠졌습니다: " + ids[i]);
+            // Space-Saving 점수는 실제 값 이상이고, 초과분은 전체/capacity 이하
+            assertTrue(scores[i] >= exact.get(ids[i]));
+            assertTrue(scores[i] - exact.get(ids[i]) <= 100_000 / 50.0);
+        }
+    }
+
+    @Test
+    void filterAndRemove() {
+        PlaceTrendTracker tracker = new PlaceTrendTracker(HOUR, 100, 0);
+        tracker.record(1L, PlaceTrendTracker.REVIEW_WEIGHT, 0);
+        tracker.record(2L, PlaceTrendTracker.FAVORITE_WEIGHT, 0);
+        tracker.record(3L, PlaceTrendTracker.VIEW_WEIGHT, 0);
+
+        long[] ids = new long[10];
+        double[] scores = new double[10];
+        assertEquals(2, tracker.findTop(id -> id != 1L, 0, ids, scores));
+        assertEquals(2L, ids[0]);
+        assertEquals(3L, ids[1]);
+
+        tracker.remove(2L);
+        assertEquals(2, tracker.findTop(id -> true, 0, ids, scores));
+        assertEquals(1L, ids[0]);
+        assertEquals(3L, ids[1]);
+    }
+}
@@ -0,0 +1,157 @@
+package com.smoking_map.smoking_map.service.place;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 인코딩 결과를 protobuf 필드 단위로 다시 읽어 MVT 스펙의 필드 번호/형식과 비교합니다.
+class PlaceVectorTileEncoderTest {
+
+    @Test
+    void encodesLayerFeaturesAndValues() {
+        PlaceVectorTileEncoder encoder = new PlaceVectorTileEncoder();
+        encoder.addPoint(7, 100, 200, 4.5, 3);
+        encoder.addPoint(300, 4000, 10, 4.5, 12);
+        assertEquals(2, encoder.getFeatureCount());
+
+        List<Field> tile = decode(encoder.encode());
+        assertEquals(1, tile.size());
+        assertEquals(3, tile.get(0).number); // Tile.layers
+        List<Field> layer = decode(tile.get(0).bytes);
+
+        assertEquals(2, single(layer, 15).value); // version
+        assertEquals(PlaceVectorTileEncoder.LAYER_NAME, single(layer, 1).string());
+        assertEquals(PlaceVectorTileEncoder.EXTENT, single(layer, 5).value);
+        List<Field> keys = all(layer, 3);
+        assertEquals(List.of(PlaceVectorTileEncoder.KEY_RATING, PlaceVectorTileEncoder.KEY_REVIEW_COUNT),
+                keys.stream().map(Field::string).toList());
+
+        List<Field> features = all(layer, 2);
+        assertEquals(2, features.size());
+        List<Field> first = decode(features.get(0).bytes);
+        assertEquals(7, single(first, 1).value);   // id
+        assertEquals(1, single(first, 3).value);   // GeomType.POINT
+        assertArrayEquals(new long[]{9, 200, 400}, packed(single(first, 4).bytes)); // MoveTo(1), zigzag(100), zigzag(200)
+        List<Field> second = decode(features.get(1).bytes);
+        assertEquals(300, single(second, 1).value);
+
+        // 값 테이블: 4.5는 한 번만 기록되고 두 피처가 같은 인덱스를 가리킵니다.
+        List<Field> values = all(layer, 4);
+        assertEquals(3, values.size());
+        long[] firstTags = packed(single(first, 2).bytes);
+        long[] secondTags = packed(single(second, 2).bytes);
+        assertEquals(0, firstTags[0]);
+        assertEquals(1, firstTags[2]);
+        assertEquals(firstTags[1], secondTags[1]);
+        assertNotEquals(firstTags[3], secondTags[3]);
+
+        List<Field> rating = decode(values.get((int) firstTags[1]).bytes);
+        assertEquals(1, single(rating, 3).wireType); // double_value (fixed64)
+        assertEquals(4.5, Double.longBitsToDouble(single(rating, 3).value));
+        assertEquals(3, single(decode(values.get((int) firstTags[3]).bytes), 5).value);   // uint_value
+        assertEquals(12, single(decode(values.get((int) secondTags[3]).bytes), 5).value);
+    }
+
+    @Test
+    void zigzagEncodesNegativeBufferCoordinates() {
+        PlaceVectorTileEncoder encoder = new PlaceVectorTileEncoder();
+        encoder.addPoint(1, -10, -64, 0.0, 0);
+        encoder.addPoint(2, PlaceVectorTileEncoder.EXTENT + 64, 0, 0.0, 0);
+
+        List<Field> layer = decode(single(decode(encoder.encode()), 3).bytes);
+        List<Field> features = all(layer, 2);
+        long[] geometry = packed(single(decode(features.get(0).bytes), 4).bytes);
+        assertEquals(9, geometry[0]);
+        assertEquals(-10, unzigzag(geometry[1]));
+        assertEquals(-64, unzigzag(geometry[2]));
+        geometry = packed(single(decode(features.get(1).bytes), 4).bytes);
+        assertEquals(PlaceVectorTileEncoder.EXTENT + 64, unzigzag(geometry[1]));
+        assertEquals(0, unzigzag(geometry[2]));
+        // 같은 값(0.0, 0)은 한 번씩만 기록됩니다.
+        assertEquals(2, all(layer, 4).size());
+    }
+
+    @Test
+    void emptyTileHasNoBytes() {
+        assertEquals(0, new PlaceVectorTileEncoder().encode().length);
+    }
+
+    private static final class Field {
+        final int number;
+        final int wireType;
+        final long value;
+        final byte[] bytes;
+
+        Field(int number, int wireType, long value, byte[] bytes) {
+            this.number = number;
+            this.wireType = wireType;
+            this.value = value;
+            this.bytes = bytes;
+        }
+
+        String string() {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static List<Field> decode(byte[] message) {
+        ByteBuffer in = ByteBuffer.wrap(message).order(ByteOrder.LITTLE_ENDIAN);
+        List<Field> fields = new ArrayList<>();
+        while (in.hasRemaining()) {
+            long tag = readVarint(in);
+            int number = (int) (tag >>> 3);
+            int wireType = (int) (tag & 0x7);
+            switch (wireType) {
+                case 0 -> fields.add(new Field(number, wireType, readVarint(in), null));
+                case 1 -> fields.add(new Field(number, wireType, in.getLong(), null));
+                case 2 -> {
+                    byte[] bytes = new byte[(int) readVarint(in)];
+                    in.get(bytes);
+                    fields.add(new Field(number, wireType, 0, bytes));
+                }
+                default -> fail("예상하지 못한 wire type: " + wireType);
+            }
+        }
+        return fields;
+    }
+
+    private static List<Field> all(List<Field> fields, int number) {
+        return fields.stream().filter(f -> f.number == number).toList();
+    }
+
+    private static Field single(List<Field> fields, int number) {
+        List<Field> matches = all(fields, number);
+        assertEquals(1, matches.size(), "field " + number);
+        return matches.get(0);
+    }
+
+    private static long[] packed(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        List<Long> values = new ArrayList<>();
+        while (in.hasRemaining()) {
+            values.add(readVarint(in));
+        }
+        return values.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private static long readVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
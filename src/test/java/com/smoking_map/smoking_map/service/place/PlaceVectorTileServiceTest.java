@@ -0,0 +1,81 @@
+package com.smoking_map.smoking_map.service.place;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlaceVectorTileServiceTest {
+
+    // 서울 시청과 부산역: 줌이 낮으면 같은 타일, 높으면 다른 타일입니다.
+    private static final double SEOUL_LAT = 37.5663;
+    private static final double SEOUL_LNG = 126.9779;
+    private static final double BUSAN_LAT = 35.1151;
+    private static final double BUSAN_LNG = 129.0422;
+
+    private PlaceVectorTileService service;
+
+    @BeforeEach
+    void setUp() {
+        PlaceSpatialIndex index = new PlaceSpatialIndex(null);
+        index.put(1, SEOUL_LAT, SEOUL_LNG);
+        index.put(2, BUSAN_LAT, BUSAN_LNG);
+        service = new PlaceVectorTileService(index, new PlaceCatalog(null, null, null));
+    }
+
+    @Test
+    void evictsOnlyTilesAroundChangedPlaceAtEveryZoom() {
+        int zooms = PlaceVectorTileService.MAX_TILE_ZOOM + 1;
+        PlaceVectorTileService.Tile[] seoul = new PlaceVectorTileService.Tile[zooms];
+        PlaceVectorTileService.Tile[] busan = new PlaceVectorTileService.Tile[zooms];
+        PlaceVectorTileService.Tile[] neighbor = new PlaceVectorTileService.Tile[zooms];
+        for (int z = 0; z < zooms; z++) {
+            int[] s = tileOf(SEOUL_LAT, SEOUL_LNG, z);
+            int[] b = tileOf(BUSAN_LAT, BUSAN_LNG, z);
+            seoul[z] = service.getTile(z, s[0], s[1]);
+            busan[z] = service.getTile(z, b[0], b[1]);
+            assertSame(seoul[z], service.getTile(z, s[0], s[1]));
+            if (z >= 2) {
+                // 두 칸 옆 타일은 버퍼(1/64 타일)가 닿지 않습니다.
+                neighbor[z] = service.getTile(z, (s[0] + 2) % (1 << z), s[1]);
+            }
+        }
+
+        // 서울 타일은 줌마다 하나씩만 비워집니다 (낮은 줌에서 부산과 같은 타일이면 그 하나).
+        assertEquals(zooms, service.evictTilesContaining(SEOUL_LAT, SEOUL_LNG));
+
+        for (int z = 0; z < zooms; z++) {
+            int[] s = tileOf(SEOUL_LAT, SEOUL_LNG, z);
+            int[] b = tileOf(BUSAN_LAT, BUSAN_LNG, z);
+            assertNotSame(seoul[z], service.getTile(z, s[0], s[1]), "z=" + z);
+            if (s[0] != b[0] || s[1] != b[1]) {
+                assertSame(busan[z], service.getTile(z, b[0], b[1]), "z=" + z);
+            }
+            if (z >= 2) {
+                assertSame(neighbor[z], service.getTile(z, (s[0] + 2) % (1 << z), s[1]), "z=" + z);
+            }
+        }
+    }
+
+    @Test
+    void evictsNeighborTileWhenPlaceIsWithinBuffer() {
+        int z = 16;
+        int[] s = tileOf(SEOUL_LAT, SEOUL_LNG, z);
+        PlaceVectorTileService.Tile left = service.getTile(z, s[0] - 1, s[1]);
+        PlaceVectorTileService.Tile own = service.getTile(z, s[0], s[1]);
+
+        // 타일 왼쪽 경계에서 버퍼 안쪽(1/128 타일)에 있는 점은 왼쪽 타일에도 그려지므로 함께 비웁니다.
+        double lng = (s[0] + 1.0 / 128) / (1 << z) * 360.0 - 180.0;
+        assertEquals(2, service.evictTilesContaining(SEOUL_LAT, lng));
+        assertNotSame(left, service.getTile(z, s[0] - 1, s[1]));
+        assertNotSame(own, service.getTile(z, s[0], s[1]));
+    }
+
+    private static int[] tileOf(double lat, double lng, int z) {
+        int tiles = 1 << z;
+        return new int[]{
+                (int) Math.floor(PlaceVectorTileService.mercatorX(lng) * tiles),
+                (int) Math.floor(PlaceVectorTileService.mercatorY(lat) * tiles)
+        };
+    }
+}
@@ -0,0 +1,128 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.smoking_map.smoking_map.domain.place.Place;
+import com.smoking_map.smoking_map.domain.place.PlaceRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(PlaceViewCounter.class)
+class PlaceViewCounterTest {
+
+    @Autowired
+    private PlaceViewCounter placeViewCounter;
+    @Autowired
+    private PlaceRepository placeRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentViewsAreFlushedInOneBatch() throws Exception {
+        long hot = savePlace();
+        long cold = savePlace();
+        int threads = 8;
+        int viewsPerThread = 1_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < viewsPerThread; i++) {
+                    placeViewCounter.increment(hot);
+                }
+                return null;
+            }));
+        }
+        placeViewCounter.increment(cold);
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(0, viewCount(hot));
+        assertEquals(2, placeViewCounter.flush());
+        assertEquals(threads * viewsPerThread, viewCount(hot));
+        assertEquals(1, viewCount(cold));
+
+        // 반영한 증가분은 다시 더하지 않습니다.
+        assertEquals(0, placeViewCounter.flush());
+        placeViewCounter.increment(hot);
+        assertEquals(1, placeViewCounter.flush());
+        assertEquals(threads * viewsPerThread + 1, viewCount(hot));
+    }
+
+    @Test
+    void unknownPlaceCountersAreDropped() {
+        long placeId = savePlace();
+        placeViewCounter.increment(placeId);
+        placeViewCounter.increment(Long.MAX_VALUE);
+        assertEquals(2, placeViewCounter.trackedPlaceCount());
+
+        assertEquals(2, placeViewCounter.flush());
+        assertEquals(1, placeViewCounter.trackedPlaceCount());
+        assertEquals(1, viewCount(placeId));
+    }
+
+    // 배치가 커밋되는지 보려면 테스트 트랜잭션 밖에서 실행해야 합니다.
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void failedBatchIsRolledBackAndRetriedOnce() {
+        long placeId = savePlace();
+        long overflowId = savePlace();
+        for (int i = 0; i < 3; i++) {
+            placeViewCounter.increment(placeId);
+        }
+        // INT 범위를 넘는 증가분은 UPDATE가 실패하므로 배치 중간 실패를 재현합니다.
+        Map<Long, LongAdder> pending = pendingCounters();
+        LongAdder overflow = new LongAdder();
+        overflow.add((long) Integer.MAX_VALUE + 1);
+        pending.put(overflowId, overflow);
+
+        assertEquals(0, placeViewCounter.flush());
+        assertEquals(0, viewCount(placeId));
+
+        pending.remove(overflowId);
+        assertEquals(1, placeViewCounter.flush());
+        assertEquals(3, viewCount(placeId));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, LongAdder> pendingCounters() {
+        return (Map<Long, LongAdder>) ReflectionTestUtils.getField(placeViewCounter, "pending");
+    }
+
+    private long savePlace() {
+        Place place = placeRepository.saveAndFlush(Place.builder()
+                .latitude(new BigDecimal("37.50000000"))
+                .longitude(new BigDecimal("127.00000000"))
+                .originalAddress("서울특별시 강남구 역삼동")
+                .roadAddress("서울특별시 강남구 테헤란로")
+                .build());
+        return place.getId();
+    }
+
+    private int viewCount(long placeId) {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM place WHERE id = ?", Integer.class, placeId);
+    }
+}
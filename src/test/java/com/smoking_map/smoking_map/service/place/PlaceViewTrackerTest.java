@@ -0,0 +1,64 @@
+package com.smoking_map.smoking_map.service.place;
+
+import com.smoking_map.smoking_map.domain.place.Place;
+import com.smoking_map.smoking_map.domain.place.PlaceRepository;
+import com.smoking_map.smoking_map.domain.place.PlaceViewSketchRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({PlaceViewTracker.class, PlaceViewCounter.class, PlaceSpatialIndex.class})
+class PlaceViewTrackerTest {
+
+    @Autowired
+    private PlaceViewTracker placeViewTracker;
+    @Autowired
+    private PlaceViewCounter placeViewCounter;
+    @Autowired
+    private PlaceSpatialIndex placeSpatialIndex;
+    @Autowired
+    private PlaceRepository placeRepository;
+    @Autowired
+    private PlaceViewSketchRepository placeViewSketchRepository;
+
+    @Test
+    void unknownAndDeletedPlacesLeaveNoSketch() {
+        Place place = placeRepository.saveAndFlush(Place.builder()
+                .latitude(new BigDecimal("37.50000000"))
+                .longitude(new BigDecimal("127.00000000"))
+                .originalAddress("서울특별시 강남구 역삼동")
+                .roadAddress("서울특별시 강남구 테헤란로")
+                .build());
+        long unknown = place.getId() + 1_000;
+
+        // 공간 인덱스 적재 전에는 DB로, 적재 후에는 인덱스로 확인합니다.
+        assertTrue(placeViewTracker.record(place.getId(), "visitor-a"));
+        assertFalse(placeViewTracker.record(unknown, "visitor-a"));
+        placeSpatialIndex.loadAll();
+        assertTrue(placeViewTracker.record(place.getId(), "visitor-b"));
+        assertFalse(placeViewTracker.record(unknown, "visitor-b"));
+        assertFalse(placeViewTracker.record(unknown, null));
+
+        assertEquals(1, placeViewCounter.trackedPlaceCount());
+        assertEquals(1, placeViewTracker.flushSketches());
+        assertEquals(1, placeViewSketchRepository.count());
+        assertTrue(placeViewSketchRepository.findById(unknown).isEmpty());
+        assertEquals(2, placeViewTracker.findUniqueViewers(place.getId()));
+
+        // 장소가 삭제되면 저장된 스케치와 아직 병합하지 않은 스케치를 모두 지웁니다.
+        assertTrue(placeViewTracker.record(place.getId(), "visitor-c"));
+        PlaceChangedEvent deleted = PlaceChangedEvent.deleted(place);
+        placeViewTracker.onPlaceDeleting(deleted);
+        placeSpatialIndex.onPlaceChanged(deleted);
+        placeViewTracker.onPlaceChanged(deleted);
+        assertFalse(placeViewTracker.record(place.getId(), "visitor-d"));
+        assertEquals(0, placeViewTracker.flushSketches());
+        assertEquals(0, placeViewSketchRepository.count());
+    }
+}
@@ -0,0 +1,44 @@
+package com.smoking_map.smoking_map.service.place;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RotatingBloomFilterTest {
+
+    private static final long WINDOW = 30 * 60 * 1000L;
+
+    @Test
+    void repeatsAreSuppressedForAtLeastOneWindow() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(1_000, 0.01, WINDOW, 0);
+
+        assertTrue(filter.add(1L, 0));
+        assertFalse(filter.add(1L, 1));
+        // 세대가 바뀐 직후에도 이전 세대에 남아 있습니다.
+        assertFalse(filter.add(1L, WINDOW + 1));
+        // 두 세대가 지나면 다시 셉니다.
+        assertTrue(filter.add(1L, 2 * WINDOW + 2));
+    }
+
+    @Test
+    void longIdleExpiresBothGenerations() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(1_000, 0.01, WINDOW, 0);
+
+        assertTrue(filter.add(1L, WINDOW - 1));
+        assertTrue(filter.add(1L, 3 * WINDOW));
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        int keys = 10_000;
+        RotatingBloomFilter filter = new RotatingBloomFilter(keys, 0.01, WINDOW, 0);
+        int suppressed = 0;
+        for (long i = 0; i < keys; i++) {
+            if (!filter.add(HyperLogLog.mix(i), 0)) {
+                suppressed++;
+            }
+        }
+        // 서로 다른 키인데도 이미 본 것으로 판정된 비율
+        assertTrue(suppressed < keys * 0.02, "suppressed=" + suppressed);
+    }
+}